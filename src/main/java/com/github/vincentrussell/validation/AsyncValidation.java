@@ -0,0 +1,103 @@
+package com.github.vincentrussell.validation;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs the validations of {@link ValidationService#validateAsync(Object)} on an {@link Executor}.  At most
+ * maxInFlight validations are handed to the executor at the same time, the others wait in a queue without blocking
+ * the caller.  A validation whose future is cancelled before it starts is skipped, once it runs the cancelled future
+ * stops the traversal at the next step.
+ */
+final class AsyncValidation {
+
+    private final Executor executor;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Task<?>> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param executor    the {@link Executor} that runs the validations.
+     * @param maxInFlight the number of validations that can run at the same time.
+     */
+    AsyncValidation(final Executor executor, final int maxInFlight) {
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Queue a validation.
+     *
+     * @param validation validates the object, it gets the future so that it can check whether it was cancelled.
+     * @param <T>        the type of the result.
+     * @return the future of the result.
+     */
+    <T> CompletableFuture<T> submit(final Function<Future<?>, T> validation) {
+        final Task<T> task = new Task<>(validation);
+        pending.add(task);
+        drain();
+        return task.future;
+    }
+
+    private void drain() {
+        while (!pending.isEmpty()) {
+            final int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return;
+            } else if (inFlight.compareAndSet(current, current + 1)) {
+                final Task<?> task = pending.poll();
+                if (task == null) {
+                    inFlight.decrementAndGet();
+                } else {
+                    execute(task);
+                }
+            }
+        }
+    }
+
+    private void execute(final Task<?> task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            task.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * One queued validation.
+     *
+     * @param <T> the type of the result.
+     */
+    private final class Task<T> implements Runnable {
+
+        private final Function<Future<?>, T> validation;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        Task(final Function<Future<?>, T> validation) {
+            this.validation = validation;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!future.isDone()) {
+                    future.complete(validation.apply(future));
+                }
+            } catch (RuntimeException | Error e) {
+                future.completeExceptionally(e);
+            } finally {
+                inFlight.decrementAndGet();
+                drain();
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.github.vincentrussell.validation;
+
+import com.github.vincentrussell.validation.plan.ValidationPlan;
+import com.github.vincentrussell.validation.type.TypeDeterminer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * The state of one call to {@link ValidationService#validateAll(List, ValidationOptions)}.  The objects are split
+ * into batches that are validated on the {@link ForkJoinPool} of the {@link ValidationOptions}.  Every batch looks
+ * up the plan and the type determiner once for a run of objects of the same class and only keeps the responses of
+ * the invalid objects.
+ */
+final class BatchValidation {
+
+    //the number of objects that are validated by one task
+    private static final int BATCH_SIZE = 256;
+
+    private final ValidationService validationService;
+    private final ValidatorRegistry registry;
+    private final Function<Class<?>, ValidationPlan> plans;
+    private final List<?> objects;
+    private final ValidationOptions options;
+
+    /**
+     * Default constructor.
+     *
+     * @param validationService the {@link ValidationService} that validates every object.
+     * @param registry          the {@link ValidatorRegistry} that is used for the whole batch.
+     * @param objects           the objects, a list with fast random access.
+     * @param options           the {@link ValidationOptions} of every object and the pool of the batch.
+     */
+    BatchValidation(final ValidationService validationService, final ValidatorRegistry registry,
+                    final List<?> objects, final ValidationOptions options) {
+        this.validationService = validationService;
+        this.registry = registry;
+        this.plans = registry.getPlanLookup();
+        this.objects = objects;
+        this.options = options;
+    }
+
+    /**
+     * Validate the objects.
+     *
+     * @return the {@link BatchValidationResponse}.
+     */
+    BatchValidationResponse validate() {
+        final Invalid invalid;
+        if (objects.size() <= BATCH_SIZE) {
+            invalid = validate(0, objects.size());
+        } else {
+            final ForkJoinPool pool = options.getForkJoinPool();
+            final RangeTask task = new RangeTask(this, 0, objects.size());
+            invalid = ForkJoinTask.getPool() == pool ? task.invoke() : pool.invoke(task);
+        }
+        return new BatchValidationResponse(objects.size(), invalid.indexes, invalid.responses, invalid.count);
+    }
+
+    private Invalid validate(final int from, final int to) {
+        final Invalid invalid = new Invalid();
+        Class<?> lastType = null;
+        boolean validated = false;
+        TypeDeterminer typeDeterminer = null;
+        for (int i = from; i < to; i++) {
+            final Object object = objects.get(i);
+            if (object != null) {
+                final Class<?> type = object.getClass();
+                if (type != lastType) {
+                    lastType = type;
+                    validated = plans.apply(type) != null;
+                    typeDeterminer = registry.getTypeDeterminer(type);
+                }
+                if (validated) {
+                    final ValidationResponse validationResponse = validationService.validate(plans, typeDeterminer,
+                            object, options, null);
+                    if (!validationResponse.isValid()) {
+                        invalid.add(i, validationResponse);
+                    }
+                }
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * The invalid objects of a range in the order of their indexes.
+     */
+    private static final class Invalid {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private int count;
+        private int[] indexes = new int[0];
+        private ValidationResponse[] responses = new ValidationResponse[0];
+
+        void add(final int index, final ValidationResponse validationResponse) {
+            ensureCapacity(count + 1);
+            indexes[count] = index;
+            responses[count++] = validationResponse;
+        }
+
+        Invalid append(final Invalid next) {
+            if (next.count == 0) {
+                return this;
+            } else if (count == 0) {
+                return next;
+            }
+            ensureCapacity(count + next.count);
+            System.arraycopy(next.indexes, 0, indexes, count, next.count);
+            System.arraycopy(next.responses, 0, responses, count, next.count);
+            count += next.count;
+            return this;
+        }
+
+        private void ensureCapacity(final int capacity) {
+            if (capacity > indexes.length) {
+                final int newCapacity = Math.max(Math.max(INITIAL_CAPACITY, indexes.length * 2), capacity);
+                indexes = Arrays.copyOf(indexes, newCapacity);
+                responses = Arrays.copyOf(responses, newCapacity);
+            }
+        }
+    }
+
+    /**
+     * Validates a range of the objects.  A range that is larger than a batch is split in half.
+     */
+    private static final class RangeTask extends RecursiveTask<Invalid> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final BatchValidation batchValidation;
+        private final int from;
+        private final int to;
+
+        RangeTask(final BatchValidation batchValidation, final int from, final int to) {
+            this.batchValidation = batchValidation;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Invalid compute() {
+            if (to - from <= BATCH_SIZE) {
+                return batchValidation.validate(from, to);
+            }
+            final int middle = (from + to) >>> 1;
+            final RangeTask first = new RangeTask(batchValidation, from, middle);
+            final RangeTask second = new RangeTask(batchValidation, middle, to);
+            second.fork();
+            final Invalid firstInvalid = first.compute();
+            return firstInvalid.append(second.join());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.vincentrussell.validation;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The result of calling {@link ValidationService#validateAll(java.util.List)}.  The invalid indexes are kept in a
+ * {@link BitSet} and only the invalid objects have a {@link ValidationResponse}.
+ */
+public final class BatchValidationResponse {
+
+    private final int size;
+    private final BitSet invalid;
+    private final int[] invalidIndexes;
+    private final ValidationResponse[] invalidResponses;
+
+    /**
+     * Default constructor.
+     *
+     * @param size             the number of objects that were validated.
+     * @param invalidIndexes   the indexes of the invalid objects in ascending order.
+     * @param invalidResponses the responses of the invalid objects in the same order as their indexes.
+     * @param invalidCount     the number of invalid objects, the arrays can be longer.
+     */
+    BatchValidationResponse(final int size, final int[] invalidIndexes, final ValidationResponse[] invalidResponses,
+                            final int invalidCount) {
+        this.size = size;
+        this.invalidIndexes = Arrays.copyOf(invalidIndexes, invalidCount);
+        this.invalidResponses = Arrays.copyOf(invalidResponses, invalidCount);
+        this.invalid = new BitSet(size);
+        for (int i = 0; i < invalidCount; i++) {
+            invalid.set(invalidIndexes[i]);
+        }
+    }
+
+    /**
+     * Get the number of objects that were validated.
+     *
+     * @return the number of objects.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Whether every object is valid.
+     *
+     * @return true if there are no validation errors.
+     */
+    public boolean isValid() {
+        return invalidIndexes.length == 0;
+    }
+
+    /**
+     * Whether the object at an index is valid.
+     *
+     * @param index the index of the object.
+     * @return true if the object has no validation errors.
+     * @throws IndexOutOfBoundsException if the index is not in the batch.
+     */
+    public boolean isValid(final int index) {
+        checkIndex(index);
+        return !invalid.get(index);
+    }
+
+    /**
+     * Get the number of invalid objects.
+     *
+     * @return the number of invalid objects.
+     */
+    public int getInvalidCount() {
+        return invalidIndexes.length;
+    }
+
+    /**
+     * Get the indexes of the invalid objects.
+     *
+     * @return a copy of the {@link BitSet} with a bit for every invalid object.
+     */
+    public BitSet getInvalid() {
+        return (BitSet) invalid.clone();
+    }
+
+    /**
+     * Get the response of the object at an index.
+     *
+     * @param index the index of the object.
+     * @return the {@link ValidationResponse} or {@link ValidationResponse#VALID} if the object is valid.
+     * @throws IndexOutOfBoundsException if the index is not in the batch.
+     */
+    public ValidationResponse getValidationResponse(final int index) {
+        checkIndex(index);
+        if (!invalid.get(index)) {
+            return ValidationResponse.VALID;
+        }
+        return invalidResponses[Arrays.binarySearch(invalidIndexes, index)];
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("index %d is not in a batch of %d", index, size));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BatchValidationResponse{size=" + size + ", invalid=" + invalid + '}';
+    }
+}
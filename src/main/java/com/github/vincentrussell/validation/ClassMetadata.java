@@ -0,0 +1,174 @@
+package com.github.vincentrussell.validation;
+
+import com.github.vincentrussell.validation.report.RetainedSize;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * What a {@link ValidationService} keeps about a class once it was created.  There is one slot per field in each
+ * array instead of an entry in a map keyed by field, and an array is left out when none of the fields needs it.
+ */
+final class ClassMetadata {
+
+    private static final int REFERENCES = 5;
+
+    private final Field[] fields;
+    //null for a field that is only followed to nested objects
+    private final String[][] validatorNames;
+    private final String[][] types;
+    private final String[] errorMessages;
+    private final String[] aliases;
+
+    private ClassMetadata(final Field[] fields, final String[][] validatorNames, final String[][] types,
+                          final String[] errorMessages, final String[] aliases) {
+        this.fields = fields;
+        this.validatorNames = validatorNames;
+        this.types = types;
+        this.errorMessages = errorMessages;
+        this.aliases = aliases;
+    }
+
+    /**
+     * Create the metadata of a class from the maps that are filled while scanning.
+     *
+     * @param fields         the fields of the class that are validated or lead to validated fields.
+     * @param validatorNames the names of the validators by field.
+     * @param types          the types that the validators apply to by field.
+     * @param errorMessages  the error messages by field.
+     * @param aliases        the path aliases by field.
+     * @return the {@link ClassMetadata}.
+     */
+    static ClassMetadata of(final Collection<Field> fields, final Map<Field, Set<String>> validatorNames,
+                            final Map<Field, Set<String>> types, final Map<Field, String> errorMessages,
+                            final Map<Field, String> aliases) {
+        final Field[] fieldArray = fields.toArray(new Field[0]);
+        final String[][] validatorNameArrays = new String[fieldArray.length][];
+        final String[][] typeArrays = new String[fieldArray.length][];
+        final String[] errorMessageArray = new String[fieldArray.length];
+        final String[] aliasArray = new String[fieldArray.length];
+        for (int i = 0; i < fieldArray.length; i++) {
+            validatorNameArrays[i] = toArray(validatorNames.get(fieldArray[i]));
+            typeArrays[i] = toArray(types.get(fieldArray[i]));
+            errorMessageArray[i] = errorMessages.get(fieldArray[i]);
+            aliasArray[i] = aliases.get(fieldArray[i]);
+        }
+        return new ClassMetadata(fieldArray, validatorNameArrays, nullIfEmpty(typeArrays),
+                nullIfEmpty(errorMessageArray), nullIfEmpty(aliasArray));
+    }
+
+    private static String[] toArray(final Set<String> strings) {
+        return strings != null ? strings.toArray(new String[0]) : null;
+    }
+
+    private static <T> T[] nullIfEmpty(final T[] array) {
+        return Arrays.stream(array).allMatch(element -> element == null) ? null : array;
+    }
+
+    /**
+     * Get the number of fields.
+     *
+     * @return the number of fields.
+     */
+    int getFieldCount() {
+        return fields.length;
+    }
+
+    /**
+     * Get a field.
+     *
+     * @param index the index of the field.
+     * @return the field.
+     */
+    Field getField(final int index) {
+        return fields[index];
+    }
+
+    /**
+     * Check if a field has the {@link com.github.vincentrussell.validation.annotation.Validation} annotation or
+     * an annotation for a validator.
+     *
+     * @param index the index of the field.
+     * @return true if the field is marked for validation.
+     */
+    boolean isMarkedWithValidation(final int index) {
+        return validatorNames[index] != null;
+    }
+
+    /**
+     * Get the names of the validators of a field.
+     *
+     * @param index the index of the field.
+     * @return the names or an empty list if the field is only followed to nested objects.
+     */
+    List<String> getValidatorNames(final int index) {
+        return asList(validatorNames[index]);
+    }
+
+    /**
+     * Get the types that the validators of a field apply to.
+     *
+     * @param index the index of the field.
+     * @return the types or an empty list if the validators apply to every type.
+     */
+    List<String> getTypes(final int index) {
+        return asList(types != null ? types[index] : null);
+    }
+
+    private static List<String> asList(final String[] strings) {
+        return strings != null ? Collections.unmodifiableList(Arrays.asList(strings)) : Collections.emptyList();
+    }
+
+    /**
+     * Get the error message of a field.
+     *
+     * @param index the index of the field.
+     * @return the error message or null if there is none.
+     */
+    String getErrorMessage(final int index) {
+        return errorMessages != null ? errorMessages[index] : null;
+    }
+
+    /**
+     * Get the path alias of a field.
+     *
+     * @param index the index of the field.
+     * @return the alias or null if there is none.
+     */
+    String getAlias(final int index) {
+        return aliases != null ? aliases[index] : null;
+    }
+
+    /**
+     * Add the size of this metadata.
+     *
+     * @param retainedSize the {@link RetainedSize} that is added to.
+     */
+    void addTo(final RetainedSize retainedSize) {
+        retainedSize.addObject(REFERENCES).addArray(fields.length).addArray(validatorNames.length);
+        addArrays(retainedSize, validatorNames);
+        if (types != null) {
+            retainedSize.addArray(types.length);
+            addArrays(retainedSize, types);
+        }
+        if (errorMessages != null) {
+            retainedSize.addArray(errorMessages.length);
+        }
+        if (aliases != null) {
+            retainedSize.addArray(aliases.length);
+        }
+    }
+
+    private static void addArrays(final RetainedSize retainedSize, final String[][] arrays) {
+        for (String[] array : arrays) {
+            if (array != null) {
+                retainedSize.addArray(array.length);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.vincentrussell.validation;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+/**
+ * The path to a field, for example <code>simpleObjects.field1</code>.  Every segment links to its parent, so the
+ * errors of the elements of a collection share the path of the collection and nothing is copied while the object
+ * graph is walked.  The dotted string is only built by {@link #toString()}.
+ */
+public final class FieldPath {
+
+    private final FieldPath parent;
+    private final String segment;
+    private final int depth;
+
+    private FieldPath(final FieldPath parent, final String segment) {
+        notNull(segment, "the passed in segment is null");
+        this.parent = parent;
+        this.segment = segment;
+        this.depth = parent != null ? parent.depth + 1 : 1;
+    }
+
+    /**
+     * Create a path with one segment.
+     *
+     * @param segment the name or {@link com.github.vincentrussell.validation.annotation.PathAlias} of the field.
+     * @return the {@link FieldPath}.
+     */
+    public static FieldPath of(final String segment) {
+        return new FieldPath(null, segment);
+    }
+
+    /**
+     * Create the path of a field of the object at this path.
+     *
+     * @param childSegment the name or {@link com.github.vincentrussell.validation.annotation.PathAlias} of the field.
+     * @return the {@link FieldPath}.
+     */
+    public FieldPath child(final String childSegment) {
+        return new FieldPath(this, childSegment);
+    }
+
+    /**
+     * Get the path of the object that has this field.
+     *
+     * @return the parent or null if this is the first segment.
+     */
+    public FieldPath getParent() {
+        return parent;
+    }
+
+    /**
+     * Get the last segment of the path.
+     *
+     * @return the segment.
+     */
+    public String getSegment() {
+        return segment;
+    }
+
+    /**
+     * Get the number of segments.
+     *
+     * @return the number of segments.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public String toString() {
+        if (parent == null) {
+            return segment;
+        }
+        final String[] segments = new String[depth];
+        int length = depth - 1;
+        FieldPath fieldPath = this;
+        for (int i = depth - 1; i >= 0; i--) {
+            segments[i] = fieldPath.segment;
+            length += fieldPath.segment.length();
+            fieldPath = fieldPath.parent;
+        }
+        final StringBuilder builder = new StringBuilder(length).append(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            builder.append('.').append(segments[i]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.vincentrussell.validation;
+
+/**
+ * When the {@link ValidationService} finds the classes that it validates.  Pass it to the constructor of the
+ * {@link ValidationService} together with the packages or classes.
+ */
+public enum Introspection {
+
+    /**
+     * Scan the packages when the {@link ValidationService} is created.  This is the default.
+     */
+    SCAN,
+
+    /**
+     * Don't scan anything upfront.  A class and the field types that can be reached from it are introspected the
+     * first time that an object of that class is validated.  The packages and classes that are passed to the
+     * {@link ValidationService} limit which classes are introspected.  If there are none every class that is not
+     * part of the JDK is introspected.
+     */
+    ON_DEMAND
+}
@@ -0,0 +1,20 @@
+package com.github.vincentrussell.validation;
+
+/**
+ * A {@link com.github.vincentrussell.validation.Validator} that can also validate long, int, short and byte fields
+ * without boxing the value first.  A validator that is also a {@link ValidatorWithMainObject} always gets the boxed
+ * value and the main object instead.
+ */
+public interface LongValidator extends Validator {
+
+    /**
+     * This function is called from the @{@link com.github.vincentrussell.validation.ValidationService} instead of
+     * {@link #validate(Object)} when the field is an integral primitive.  It must give the same result as
+     * {@link #validate(Object)} with the boxed value.
+     *
+     * @param value the value to be validated
+     * @return a {@link com.github.vincentrussell.validation.ValidationError} if there are errors.  Returns nothing if
+     * there are no errors
+     */
+    ValidationError validateLong(long value);
+}
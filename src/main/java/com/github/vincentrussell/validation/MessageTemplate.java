@@ -0,0 +1,107 @@
+package com.github.vincentrussell.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+/**
+ * A message with named parameters, for example <code>{value} exceeds {max}</code>.  The template is parsed once and
+ * only rendered when the message is read.  A parameter without an argument is left as it is, so a message without
+ * parameters or with braces that aren't parameters renders unchanged.
+ */
+public final class MessageTemplate {
+
+    private final String template;
+    private final String[] literals;
+    private final String[] parameterNames;
+
+    private MessageTemplate(final String template, final String[] literals, final String[] parameterNames) {
+        this.template = template;
+        this.literals = literals;
+        this.parameterNames = parameterNames;
+    }
+
+    /**
+     * Parse a template.
+     *
+     * @param template the template, parameters are names in braces.
+     * @return the {@link MessageTemplate}.
+     */
+    public static MessageTemplate parse(final String template) {
+        notNull(template, "the passed in template is null");
+        final List<String> literals = new ArrayList<>();
+        final List<String> parameterNames = new ArrayList<>();
+        int literalStart = 0;
+        int start = template.indexOf('{');
+        while (start >= 0) {
+            final int end = template.indexOf('}', start + 1);
+            if (end < 0) {
+                break;
+            }
+            final String name = template.substring(start + 1, end);
+            if (isParameterName(name)) {
+                literals.add(template.substring(literalStart, start));
+                parameterNames.add(name);
+                literalStart = end + 1;
+                start = template.indexOf('{', literalStart);
+            } else {
+                start = template.indexOf('{', start + 1);
+            }
+        }
+        literals.add(template.substring(literalStart));
+        return new MessageTemplate(template, literals.toArray(new String[0]),
+                parameterNames.toArray(new String[0]));
+    }
+
+    private static boolean isParameterName(final String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the names of the parameters in the order that they appear.
+     *
+     * @return the names.
+     */
+    public List<String> getParameterNames() {
+        return Collections.unmodifiableList(Arrays.asList(parameterNames));
+    }
+
+    /**
+     * Render the message.
+     *
+     * @param arguments the arguments by parameter name, a null argument is rendered as <code>null</code>.
+     * @return the message.
+     */
+    public String render(final Map<String, ?> arguments) {
+        if (parameterNames.length == 0) {
+            return template;
+        }
+        final StringBuilder builder = new StringBuilder(template.length()).append(literals[0]);
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (arguments.containsKey(parameterNames[i])) {
+                builder.append(arguments.get(parameterNames[i]));
+            } else {
+                builder.append('{').append(parameterNames[i]).append('}');
+            }
+            builder.append(literals[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.vincentrussell.validation;
+
+/**
+ * How the {@link ValidationService} runs the validation plan that it compiles for every class.
+ */
+public enum ValidationEngine {
+
+    /**
+     * Walk the steps of the plan in a loop.  This is the default.
+     */
+    INTERPRETED,
+
+    /**
+     * Generate a class per validated class at runtime that has the steps unrolled.  When a class can't be
+     * generated the {@link ValidationService} falls back to {@link #INTERPRETED} for that class.  Needs javassist on
+     * the classpath, it is an optional dependency and without it every class is interpreted.
+     */
+    GENERATED
+}
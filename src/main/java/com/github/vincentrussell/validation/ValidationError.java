@@ -1,5 +1,7 @@
 package com.github.vincentrussell.validation;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Stack;
 
 /**
@@ -7,9 +9,18 @@ import java.util.Stack;
  * a {@link com.github.vincentrussell.validation.Validator}.
  */
 public class ValidationError {
+
+    /**
+     * The parameter of an error message template for the path of the field.
+     */
+    public static final String FIELD_PARAMETER = "field";
+
     private Throwable throwable = null;
+    private Violation violation;
     private String field = null;
+    private FieldPath fieldPath;
     private String errorMessage;
+    private MessageTemplate errorMessageTemplate;
     private Object value;
 
     /**
@@ -21,13 +32,37 @@ public class ValidationError {
         throwable(throwable);
     }
 
+    /**
+     * Constructor that takes a {@link Violation}.  No exception is created unless {@link #getThrowable()} is called.
+     *
+     * @param violation the constraint that failed.
+     */
+    public ValidationError(final Violation violation) {
+        this.violation = violation;
+    }
+
+    /**
+     * constructor with options.
+     *
+     * @param fieldPath the path for this field
+     * @param value     the value that failed
+     * @param e         the throwable that was thrown if any.
+     */
+    public ValidationError(final FieldPath fieldPath, final Object value, final Throwable e) {
+        setField(fieldPath);
+        setValue(value);
+        throwable(e);
+    }
+
     /**
      * constructor with options.
      *
      * @param pathStack the path for this field
      * @param value     the value that failed
      * @param e         the throwable that was thrown if any.
+     * @deprecated use {@link #ValidationError(FieldPath, Object, Throwable)}.
      */
+    @Deprecated
     public ValidationError(final Stack<String> pathStack, final Object value, final Throwable e) {
         setField(pathStack);
         setValue(value);
@@ -66,23 +101,49 @@ public class ValidationError {
     }
 
     /**
-     * Get the associated throwable.
+     * Get the associated throwable.  For a {@link Violation} an {@link IllegalArgumentException} without a stack
+     * trace is created the first time.
      *
      * @return {@link java.lang.Throwable}
      */
     public Throwable getThrowable() {
+        if (throwable == null && violation != null) {
+            throwable = new ViolationException(violation);
+        }
         return throwable;
     }
 
     /**
-     * get the field associated with this {@link com.github.vincentrussell.validation.ValidationError}.
+     * Get the constraint that failed.
+     *
+     * @return the {@link Violation} or null if the error was created with a {@link Throwable}.
+     */
+    public Violation getViolation() {
+        return violation;
+    }
+
+    /**
+     * get the field associated with this {@link com.github.vincentrussell.validation.ValidationError}.  A field that
+     * was set as a {@link FieldPath} is turned into the dotted string the first time.
      *
      * @return the field.
      */
     public String getField() {
+        if (field == null && fieldPath != null) {
+            field = fieldPath.toString();
+        }
         return field;
     }
 
+    /**
+     * Get the field as a {@link FieldPath}.
+     *
+     * @return the path or null if the field was set as a string.
+     */
+    public FieldPath getFieldPath() {
+        return fieldPath;
+    }
+
     /**
      * set the field.
      *
@@ -91,6 +152,19 @@ public class ValidationError {
      */
     public ValidationError setField(final String field) {
         this.field = field;
+        this.fieldPath = null;
+        return this;
+    }
+
+    /**
+     * Set the field as a {@link FieldPath}.  The dotted string is only built when {@link #getField()} is called.
+     *
+     * @param fieldPath the path of the field.
+     * @return {@link com.github.vincentrussell.validation.ValidationError} this is a builder.
+     */
+    public ValidationError setField(final FieldPath fieldPath) {
+        this.field = null;
+        this.fieldPath = fieldPath;
         return this;
     }
 
@@ -100,27 +174,41 @@ public class ValidationError {
      *
      * @param pathStack the path stack of field names.
      * @return {@link com.github.vincentrussell.validation.ValidationError} this is a builder.
+     * @deprecated use {@link #setField(FieldPath)}.
      */
+    @Deprecated
     public ValidationError setField(final Stack<String> pathStack) {
-        StringBuilder stringBuilder = new StringBuilder();
-        pathStack.stream().reduce(stringBuilder, (stringBuilder12, s) -> {
-            if (stringBuilder12.length() > 0) {
-                stringBuilder12.append(".");
-            }
-            return stringBuilder12.append(s);
-        }, (stringBuilder1, stringBuilder2) -> stringBuilder1.append(stringBuilder2.toString()));
-        return setField(stringBuilder.toString());
+        FieldPath path = null;
+        for (String segment : pathStack) {
+            path = path != null ? path.child(segment) : FieldPath.of(segment);
+        }
+        return path != null ? setField(path) : setField("");
     }
 
+
     /**
-     * get the error message.
+     * get the error message.  A {@link MessageTemplate} is rendered the first time with the <code>value</code>, the
+     * <code>field</code> and the parameters of the {@link Violation}.
      *
      * @return the error message.
      */
     public String getErrorMessage() {
+        if (errorMessage == null && errorMessageTemplate != null) {
+            errorMessage = errorMessageTemplate.render(getMessageArguments());
+        }
         return errorMessage;
     }
 
+    private Map<String, Object> getMessageArguments() {
+        final Map<String, Object> arguments = new HashMap<>();
+        if (violation != null) {
+            arguments.putAll(violation.getParameters());
+        }
+        arguments.put(Violation.VALUE_PARAMETER, value);
+        arguments.put(FIELD_PARAMETER, getField());
+        return arguments;
+    }
+
     /**
      * Set the error message for this validation error.
      *
@@ -128,5 +216,16 @@ public class ValidationError {
      */
     public void setErrorMessage(final String errorMessage) {
         this.errorMessage = errorMessage;
+        this.errorMessageTemplate = null;
+    }
+
+    /**
+     * Set the error message as a template that is only rendered when {@link #getErrorMessage()} is called.
+     *
+     * @param errorMessageTemplate the {@link MessageTemplate}.
+     */
+    public void setErrorMessage(final MessageTemplate errorMessageTemplate) {
+        this.errorMessage = null;
+        this.errorMessageTemplate = errorMessageTemplate;
     }
 }
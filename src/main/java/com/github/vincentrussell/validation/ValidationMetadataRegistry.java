@@ -0,0 +1,60 @@
+package com.github.vincentrussell.validation;
+
+import java.util.Set;
+
+/**
+ * What a {@link ValidationService} finds on startup, built once and shared by many services.  The registry is
+ * immutable and thread safe.  Every {@link ValidationService} that is created with it uses the same metadata and the
+ * same validators for annotations instead of scanning again, and only keeps its own custom validators, type
+ * determiners and plans.
+ *
+ * <pre>
+ *   ValidationMetadataRegistry registry = ValidationMetadataRegistry.create("some.package");
+ *   ValidationService validationService = new ValidationService(registry);
+ * </pre>
+ */
+public final class ValidationMetadataRegistry {
+
+    private final ValidationService template;
+
+    private ValidationMetadataRegistry(final ValidationService template) {
+        this.template = template;
+    }
+
+    /**
+     * Scan for the classes to validate and create the registry.
+     *
+     * @param params the classes or packages (as a string) that should be considered for validation and the other
+     *               parameters of {@link ValidationService#ValidationService(Object...)}.
+     * @return the {@link ValidationMetadataRegistry}.
+     * @throws IllegalArgumentException if {@link Introspection#ON_DEMAND} is passed in.
+     */
+    public static ValidationMetadataRegistry create(final Object... params) {
+        final ValidationService template = new ValidationService(params);
+        template.freezeMetadata();
+        return new ValidationMetadataRegistry(template);
+    }
+
+    /**
+     * Get the classes that are validated.
+     *
+     * @return the classes.
+     */
+    public Set<Class> getValidatedClasses() {
+        return template.getValidatedClasses();
+    }
+
+    /**
+     * Get the service whose metadata is shared.  It is never used to validate.
+     *
+     * @return the {@link ValidationService}.
+     */
+    ValidationService getTemplate() {
+        return template;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationMetadataRegistry{validatedClasses=" + getValidatedClasses().size() + '}';
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.vincentrussell.validation;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+/**
+ * Options for one call to {@link ValidationService#validate(Object, ValidationOptions)}.  By default every error is
+ * collected.  With a limit the traversal stops as soon as the limit is reached, the remaining fields, elements and
+ * entries are not visited.  With a parallel threshold large collections and maps are split and their elements are
+ * validated on a {@link ForkJoinPool}.
+ */
+public final class ValidationOptions {
+
+    /**
+     * Collect every error.
+     */
+    public static final ValidationOptions DEFAULT = new ValidationOptions(Integer.MAX_VALUE, Integer.MAX_VALUE, null);
+
+    private static final ValidationOptions FAIL_FAST = new ValidationOptions(1, Integer.MAX_VALUE, null);
+
+    private final int maxErrors;
+    private final int parallelThreshold;
+    private final ForkJoinPool forkJoinPool;
+
+    private ValidationOptions(final int maxErrors, final int parallelThreshold, final ForkJoinPool forkJoinPool) {
+        this.maxErrors = maxErrors;
+        this.parallelThreshold = parallelThreshold;
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Stop at the first error.
+     *
+     * @return the {@link ValidationOptions}.
+     */
+    public static ValidationOptions failFast() {
+        return FAIL_FAST;
+    }
+
+    /**
+     * Stop once a number of errors were found.
+     *
+     * @param maxErrors the number of errors.
+     * @return the {@link ValidationOptions}.
+     * @throws IllegalArgumentException if the number is less than one.
+     */
+    public static ValidationOptions maxErrors(final int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException(String.format("maxErrors has to be at least 1 but was %d",
+                    maxErrors));
+        }
+        return maxErrors == 1 ? FAIL_FAST : new ValidationOptions(maxErrors, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Validate the elements of collections and the entries of maps that are larger than a threshold in parallel.  The
+     * elements are split until every part is at most the threshold.  The errors are in the same order as they would
+     * be without the threshold, when there is a limit the errors after it can be a different subset.
+     *
+     * @param threshold the number of elements or entries.
+     * @return the {@link ValidationOptions}.
+     * @throws IllegalArgumentException if the threshold is less than one.
+     */
+    public ValidationOptions withParallelThreshold(final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException(String.format("threshold has to be at least 1 but was %d",
+                    threshold));
+        }
+        return new ValidationOptions(maxErrors, threshold, forkJoinPool);
+    }
+
+    /**
+     * Use a pool other than the {@link ForkJoinPool#commonPool()} for the parallel validation.
+     *
+     * @param pool the {@link ForkJoinPool}.
+     * @return the {@link ValidationOptions}.
+     */
+    public ValidationOptions withForkJoinPool(final ForkJoinPool pool) {
+        notNull(pool, "the passed in pool is null");
+        return new ValidationOptions(maxErrors, parallelThreshold, pool);
+    }
+
+    /**
+     * Get the number of errors after which the traversal stops.
+     *
+     * @return the number of errors or {@link Integer#MAX_VALUE} if every error is collected.
+     */
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    /**
+     * Whether the traversal stops at the first error.
+     *
+     * @return true if it stops at the first error.
+     */
+    public boolean isFailFast() {
+        return maxErrors == 1;
+    }
+
+    /**
+     * Get the size above which collections and maps are validated in parallel.
+     *
+     * @return the threshold or {@link Integer#MAX_VALUE} if nothing is validated in parallel.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Get the pool for the parallel validation.
+     *
+     * @return the pool, the {@link ForkJoinPool#commonPool()} if none was set.
+     */
+    public ForkJoinPool getForkJoinPool() {
+        return forkJoinPool != null ? forkJoinPool : ForkJoinPool.commonPool();
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationOptions{maxErrors=" + maxErrors + ", parallelThreshold=" + parallelThreshold + '}';
+    }
+}
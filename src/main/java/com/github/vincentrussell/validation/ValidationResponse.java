@@ -9,12 +9,30 @@ import java.util.stream.Collectors;
  * The result of calling {@link com.github.vincentrussell.validation.ValidationService#validate(Object)} i}.
  */
 public class ValidationResponse {
-    private List<ValidationError> validationErrors = new ArrayList<>();
+
+    /**
+     * The shared response of a valid object.  It has no errors and can not be changed.
+     */
+    public static final ValidationResponse VALID = new ValidationResponse(Collections.emptyList());
+
+    private final List<ValidationError> validationErrors;
+
+    /**
+     * Default constructor.
+     */
+    public ValidationResponse() {
+        this(new ArrayList<>());
+    }
+
+    private ValidationResponse(final List<ValidationError> validationErrors) {
+        this.validationErrors = validationErrors;
+    }
 
     /**
      * Add an error to this {@link com.github.vincentrussell.validation.ValidationResponse}.
      *
      * @param validationError the {@link ValidationError} to be addeded
+     * @throws UnsupportedOperationException if this is the {@link #VALID} response.
      */
     public void addError(final ValidationError validationError) {
         validationErrors.add(validationError);
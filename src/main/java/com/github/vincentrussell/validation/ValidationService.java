@@ -19,31 +19,60 @@ import com.github.vincentrussell.validation.annotation.Size;
 import com.github.vincentrussell.validation.annotation.Validation;
 import com.github.vincentrussell.validation.annotation.ValidatorInterpreter;
 import com.github.vincentrussell.validation.defaultValidators.AfterValidator;
+import com.github.vincentrussell.validation.plan.FieldStep;
+import com.github.vincentrussell.validation.plan.PlanExecutor;
+import com.github.vincentrussell.validation.plan.PlanExecutorGenerator;
+import com.github.vincentrussell.validation.plan.ValidationPlan;
+import com.github.vincentrussell.validation.report.RetainedSize;
+import com.github.vincentrussell.validation.report.StartupReport;
+import com.github.vincentrussell.validation.scanner.ClassFileScanner;
 import com.github.vincentrussell.validation.scanner.ReverseConnectionScanner;
-import com.github.vincentrussell.validation.tree.TreeNode;
+import com.github.vincentrussell.validation.scanner.ValidationIndex;
+import com.github.vincentrussell.validation.snapshot.MetadataSnapshot;
+import com.github.vincentrussell.validation.snapshot.SnapshotInput;
+import com.github.vincentrussell.validation.snapshot.SnapshotOutput;
+import com.github.vincentrussell.validation.tree.TypeGraph;
 import com.github.vincentrussell.validation.type.TypeDeterminer;
+import com.github.vincentrussell.validation.util.ClassScopedMap;
+import com.github.vincentrussell.validation.util.FieldAccessor;
 import com.github.vincentrussell.validation.util.ReflectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.reflections.Reflections;
 import org.reflections.ReflectionsException;
+import org.reflections.Store;
 import org.reflections.scanners.FieldAnnotationsScanner;
 import org.reflections.util.ConfigurationBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
-import java.util.Stack;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.ObjectUtils.firstNonNull;
@@ -56,42 +85,382 @@ public final class ValidationService {
 
     private static Logger LOGGER = LoggerFactory.getLogger(ValidationService.class);
 
-    private final Reflections reflections;
-    private final Set<Field> fieldsMarkedWithValidation = new HashSet<>();
-    private final Set<Class> classesToValidate = new HashSet<>();
-    private final Map<Class, Set<Field>> classToFieldsMap = new HashMap<>();
-    private final Map<Field, Set<String>> fieldToValidatorNames = new HashMap<>();
-    private final Map<Field, Set<String>> fieldToTypes = new HashMap<>();
-    private final Map<String, Validator> validatorNameToValidator = new HashMap<>();
-    private final Map<Field, String> fieldToErrorMessageMap = new HashMap<>();
-    private final Map<Field, String> fieldToAliasMap = new HashMap<>();
-    private final Map<Class, TypeDeterminer> classToTypeDeterminerMap = new HashMap<>();
+    private Reflections reflections;
+    private Set<Class> scannedClasses;
+    private boolean indexed;
+    private boolean loadedFromSnapshot = false;
+    //classes and fields are kept in ClassScopedMaps so that the class loaders of the validated classes can be collected
+    //these are only filled while scanning, afterwards they are compacted into the compactMetadata
+    private Set<Class> classesToValidate = Collections.newSetFromMap(ClassScopedMap.forClasses());
+    private Map<Class, Set<Field>> classToFieldsMap = ClassScopedMap.forClasses();
+    private Map<Field, Set<String>> fieldToValidatorNames = ClassScopedMap.forFields();
+    private Map<Field, Set<String>> fieldToTypes = ClassScopedMap.forFields();
+    private Map<Field, String> fieldToErrorMessageMap = ClassScopedMap.forFields();
+    private Map<Field, String> fieldToAliasMap = ClassScopedMap.forFields();
+    //this is never changed once it is set, so it is shared with other services of a ValidationMetadataRegistry
+    private Map<Class, ClassMetadata> compactMetadata;
+    private Map<String, ValidatorInterpreter> validatorNameToInterpreter = new HashMap<>();
+    //only changed while holding the lock of the service, validations read it once without locking
+    private final AtomicReference<ValidatorRegistry> validatorRegistry =
+            new AtomicReference<>(ValidatorRegistry.EMPTY);
+    private final ThreadLocal<ValidityCheck> validityChecks = ThreadLocal.withInitial(ValidityCheck::new);
+    private volatile AsyncValidation asyncValidation = new AsyncValidation(ForkJoinPool.commonPool(),
+            Integer.MAX_VALUE);
+    private final Map<String, Integer> typeToIndexMap = new ConcurrentHashMap<>();
+    private final Map<Class, Boolean> onDemandIntrospectedClasses = ClassScopedMap.forClasses();
+    private final Introspection introspection;
+    private final StartupReport startupReport;
+    private List<Class<? extends Annotation>> validatorAnnotations = Collections.emptyList();
+    private Set<String> onDemandPackagePrefixes;
+    private ValidationEngine validationEngine = ValidationEngine.INTERPRETED;
+    private PlanExecutorGenerator planExecutorGenerator;
 
     /**
      * Create a {@link com.github.vincentrussell.validation.ValidationService}.
      *
-     * @param params the classes or packages (as a string) that should be considered for validation.
+     * @param params the classes or packages (as a string) that should be considered for validation.  A
+     *               {@link com.github.vincentrussell.validation.snapshot.MetadataSnapshot} can be passed in as well
+     *               to store what was found and read it on the next start.  A {@link ValidationMetadataRegistry}
+     *               can be passed in instead of classes and packages to use what it found without scanning.
      */
     public ValidationService(final Object... params) {
-        final Set<Object> paramsSet = params != null ? new HashSet<>(Arrays.asList(params)) : new HashSet<>();
+        final List<Object> paramsList = params != null ? new ArrayList<>(Arrays.asList(params)) : new ArrayList<>();
+        final MetadataSnapshot metadataSnapshot = removeParam(paramsList, MetadataSnapshot.class);
+        this.startupReport = removeParam(paramsList, StartupReport.class);
+        this.introspection = firstNonNull(removeParam(paramsList, Introspection.class), Introspection.SCAN);
+        final ValidationMetadataRegistry metadataRegistry = removeParam(paramsList, ValidationMetadataRegistry.class);
+        if (metadataRegistry != null) {
+            if (!paramsList.isEmpty() || metadataSnapshot != null || Introspection.ON_DEMAND.equals(introspection)) {
+                throw new IllegalArgumentException(String.format("%s can not be combined with other parameters",
+                        ValidationMetadataRegistry.class.getSimpleName()));
+            }
+            shareMetadata(metadataRegistry.getTemplate());
+            indexTypes();
+            measure(StartupReport.COMPILE_PLANS, this::compileValidationPlans);
+            reportRetainedBytes(startupReport != null ? startupReport::setRetainedBytesAfterCompaction : null);
+            logStartupReport();
+            return;
+        }
+        if (Introspection.ON_DEMAND.equals(introspection)) {
+            this.onDemandPackagePrefixes = ValidationIndex.getPackagePrefixes(paramsList);
+            if (onDemandPackagePrefixes == null || metadataSnapshot != null) {
+                throw new IllegalArgumentException(String.format("only packages and classes can be passed in "
+                        + "together with %s", Introspection.ON_DEMAND));
+            }
+            measure(StartupReport.COMPILE_PLANS, this::compileValidationPlans);
+            logStartupReport();
+            return;
+        }
+        final Set<Object> paramsSet = new HashSet<>(paramsList);
         paramsSet.add(AfterValidator.class.getPackage().getName());
         paramsSet.add(After.class.getPackage().getName());
         paramsSet.addAll(Arrays.asList(After.class, Before.class, Future.class, Past.class, NotNull.class, Null.class,
                 Size.class, NotEmpty.class, Regex.class, Max.class, Min.class, DecimalMax.class, DecimalMin.class,
                 Bool.class, Regex.class, Size.class, Required.class));
-        final ReverseConnectionScanner reverseConnectionScanner = new ReverseConnectionScanner();
-        this.reflections = new Reflections(ConfigurationBuilder.build(paramsSet.toArray(new Object[0]))
-                .setScanners(new FieldAnnotationsScanner(), reverseConnectionScanner));
-        for (Object param : paramsSet) {
-            if (Class.class.isInstance(param) && ((Class) param).isAnnotation()
-                    && ((Class) param).isAnnotationPresent(
-                            com.github.vincentrussell.validation.annotation.Validator.class)) {
-                addDefaultValidator(((Class) param));
+        this.validatorAnnotations = getValidatorAnnotations(paramsSet);
+        String fingerprint = null;
+        if (metadataSnapshot != null) {
+            fingerprint = MetadataSnapshot.fingerprint(
+                    ConfigurationBuilder.build(paramsSet.toArray(new Object[0])).getUrls(), paramsSet);
+            final String snapshotFingerprint = fingerprint;
+            loadedFromSnapshot = measure(StartupReport.READ_SNAPSHOT,
+                    () -> readMetadataSnapshot(metadataSnapshot, snapshotFingerprint));
+        }
+        if (!loadedFromSnapshot) {
+            scan(paramsList, paramsSet, getClassLoader(), Collections.emptySet());
+            if (metadataSnapshot != null) {
+                final String snapshotFingerprint = fingerprint;
+                measure(StartupReport.WRITE_SNAPSHOT,
+                        () -> writeMetadataSnapshot(metadataSnapshot, snapshotFingerprint));
+            }
+        }
+        indexTypes();
+        reportRetainedBytes(startupReport != null ? startupReport::setRetainedBytesBeforeCompaction : null);
+        measure(StartupReport.COMPACT_METADATA, this::compactMetadata);
+        reportRetainedBytes(startupReport != null ? startupReport::setRetainedBytesAfterCompaction : null);
+        measure(StartupReport.COMPILE_PLANS, this::compileValidationPlans);
+        logStartupReport();
+    }
+
+    private void shareMetadata(final ValidationService template) {
+        clearScanMetadata();
+        this.compactMetadata = template.compactMetadata;
+        this.validatorNameToInterpreter = template.validatorNameToInterpreter;
+        this.validatorAnnotations = template.validatorAnnotations;
+        this.validatorRegistry.set(ValidatorRegistry.EMPTY.withValidators(
+                template.validatorRegistry.get().getValidators()));
+    }
+
+    /**
+     * Check that the metadata of this service can be shared by a {@link ValidationMetadataRegistry}.  The compacted
+     * metadata is never changed, a service that registers classes later compacts its own copy.
+     */
+    void freezeMetadata() {
+        if (compactMetadata == null) {
+            throw new IllegalArgumentException(String.format("the metadata of %s can't be shared",
+                    Introspection.ON_DEMAND));
+        }
+    }
+
+    //the scan store, the scanned classes and the maps keyed by field are only needed until the plans are compiled
+    private void compactMetadata() {
+        final Map<Class, ClassMetadata> metadata = ClassScopedMap.forClasses();
+        for (Class clazz : getMetadataClasses()) {
+            metadata.put(clazz, createClassMetadata(clazz));
+        }
+        this.reflections = null;
+        this.scannedClasses = null;
+        clearScanMetadata();
+        this.compactMetadata = metadata;
+    }
+
+    private void clearScanMetadata() {
+        this.classesToValidate = Collections.emptySet();
+        this.classToFieldsMap = Collections.emptyMap();
+        this.fieldToValidatorNames = Collections.emptyMap();
+        this.fieldToTypes = Collections.emptyMap();
+        this.fieldToErrorMessageMap = Collections.emptyMap();
+        this.fieldToAliasMap = Collections.emptyMap();
+    }
+
+    //called before classes are registered, the compacted metadata might be shared
+    private void expandMetadata() {
+        if (compactMetadata == null) {
+            return;
+        }
+        this.classesToValidate = Collections.newSetFromMap(ClassScopedMap.forClasses());
+        this.classToFieldsMap = ClassScopedMap.forClasses();
+        this.fieldToValidatorNames = ClassScopedMap.forFields();
+        this.fieldToTypes = ClassScopedMap.forFields();
+        this.fieldToErrorMessageMap = ClassScopedMap.forFields();
+        this.fieldToAliasMap = ClassScopedMap.forFields();
+        this.validatorNameToInterpreter = new HashMap<>(validatorNameToInterpreter);
+        compactMetadata.forEach((clazz, classMetadata) -> {
+            classesToValidate.add(clazz);
+            for (int i = 0; i < classMetadata.getFieldCount(); i++) {
+                final Field field = classMetadata.getField(i);
+                classToFieldsMap.computeIfAbsent(clazz, aClass -> new HashSet<>()).add(field);
+                if (classMetadata.isMarkedWithValidation(i)) {
+                    fieldToValidatorNames.put(field, new HashSet<>(classMetadata.getValidatorNames(i)));
+                }
+                if (!classMetadata.getTypes(i).isEmpty()) {
+                    fieldToTypes.put(field, new HashSet<>(classMetadata.getTypes(i)));
+                }
+                putIfNotNull(fieldToErrorMessageMap, field, classMetadata.getErrorMessage(i));
+                putIfNotNull(fieldToAliasMap, field, classMetadata.getAlias(i));
+            }
+        });
+        this.compactMetadata = null;
+    }
+
+    private Set<Class> getMetadataClasses() {
+        if (compactMetadata != null) {
+            return compactMetadata.keySet();
+        }
+        final Set<Class> classes = new HashSet<>(classesToValidate);
+        classes.addAll(classToFieldsMap.keySet());
+        return classes;
+    }
+
+    private ClassMetadata createClassMetadata(final Class<?> type) {
+        return ClassMetadata.of(classToFieldsMap.getOrDefault(type, Collections.emptySet()), fieldToValidatorNames,
+                fieldToTypes, fieldToErrorMessageMap, fieldToAliasMap);
+    }
+
+    private ClassMetadata getClassMetadata(final Class<?> type) {
+        return compactMetadata != null ? compactMetadata.get(type) : createClassMetadata(type);
+    }
+
+    private void reportRetainedBytes(final LongConsumer consumer) {
+        if (consumer == null) {
+            return;
+        }
+        final RetainedSize retainedSize = new RetainedSize();
+        if (reflections != null) {
+            final Store store = reflections.getStore();
+            for (String index : store.keySet()) {
+                for (String key : store.keys(index)) {
+                    final Set<String> values = store.get(index, key);
+                    retainedSize.addString(key).addSet(values.size());
+                    values.forEach(retainedSize::addString);
+                }
             }
+            //the reverse connection scanner is one of the scanners of the store
+            reflections.getConfiguration().getScanners().stream().filter(ReverseConnectionScanner.class::isInstance)
+                    .map(scanner -> ((ReverseConnectionScanner) scanner).getTypeGraph())
+                    .forEach(typeGraph -> retainedSize.addSet(2 * typeGraph.getNodeCount())
+                            .addEntries(2 * typeGraph.getEdgeCount()));
+        }
+        if (scannedClasses != null) {
+            retainedSize.addSet(scannedClasses.size());
+        }
+        if (compactMetadata != null) {
+            retainedSize.addSet(compactMetadata.size());
+            compactMetadata.values().forEach(classMetadata -> classMetadata.addTo(retainedSize));
+        } else {
+            retainedSize.addSet(classesToValidate.size()).addSet(classToFieldsMap.size())
+                    .addSet(fieldToValidatorNames.size()).addSet(fieldToTypes.size())
+                    .addSet(fieldToErrorMessageMap.size()).addSet(fieldToAliasMap.size());
+            classToFieldsMap.values().forEach(fields -> retainedSize.addSet(fields.size()));
+            fieldToValidatorNames.values().forEach(names -> retainedSize.addSet(names.size()));
+            fieldToTypes.values().forEach(types -> retainedSize.addSet(types.size()));
+        }
+        consumer.accept(retainedSize.getBytes());
+    }
+
+    /**
+     * Check if this service uses the same metadata as another service.
+     *
+     * @param other the other {@link ValidationService}.
+     * @return true until classes are registered with one of the services.
+     */
+    boolean isSharingMetadataWith(final ValidationService other) {
+        return compactMetadata != null && compactMetadata == other.compactMetadata;
+    }
+
+    /**
+     * Get the classes that have a {@link ValidationPlan}.
+     *
+     * @return the classes.
+     */
+    Set<Class> getValidatedClasses() {
+        return validatorRegistry.get().getValidationPlans().keySet();
+    }
+
+    private <T> T measure(final String phase, final Supplier<T> supplier) {
+        return startupReport != null ? startupReport.measure(phase, supplier) : supplier.get();
+    }
+
+    private void measure(final String phase, final Runnable runnable) {
+        if (startupReport != null) {
+            startupReport.measure(phase, runnable);
+        } else {
+            runnable.run();
+        }
+    }
+
+    private void logStartupReport() {
+        if (startupReport != null) {
+            startupReport.setRetainedClasses(getMetadataClasses().size());
+            startupReport.setRetainedFields(getMetadataClasses().stream()
+                    .mapToInt(clazz -> getClassMetadata(clazz).getFieldCount()).sum());
+            LOGGER.info("{}", startupReport);
+        }
+    }
+
+    /**
+     * Get the report of the time and memory that the construction of this service needed.
+     *
+     * @return the {@link StartupReport} that was passed to the constructor or null if none was passed in.
+     */
+    public StartupReport getStartupReport() {
+        return startupReport;
+    }
+
+    private static <T> T removeParam(final List<Object> paramsList, final Class<T> type) {
+        T result = null;
+        for (Iterator<Object> iterator = paramsList.iterator(); iterator.hasNext();) {
+            final Object param = iterator.next();
+            if (type.isInstance(param)) {
+                result = type.cast(param);
+                iterator.remove();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Add classes after the service was created.  Only the passed in classes are scanned.  The classes that are
+     * already known are used to find out if the new classes reach a validated field, and the fields of the known
+     * classes are checked again because they might reach the new classes.  The plans for the new classes and the
+     * known classes that changed are published together so that validations that are running are not affected.
+     *
+     * @param classes the classes that should be considered for validation.
+     */
+    public synchronized void registerClasses(final Class... classes) {
+        notNull(classes, "the passed in classes are null");
+        if (Introspection.ON_DEMAND.equals(introspection)) {
+            resetOnDemandIntrospection(ValidationIndex.getPackagePrefixes(Arrays.asList(classes)));
+            return;
         }
+        LOGGER.info("registering {} classes", classes.length);
+        expandMetadata();
+        final Map<Class, Set<Field>> knownClassToFields = getKnownClassToFields();
+        final ReverseConnectionScanner reverseConnectionScanner = new ReverseConnectionScanner();
+        this.reflections = null;
+        this.indexed = false;
+        this.scannedClasses = new HashSet<>(Arrays.asList(classes));
+        scannedClasses.forEach(reverseConnectionScanner::scan);
+        knownClassToFields.keySet().forEach(reverseConnectionScanner::scan);
+        processScannedClasses(reverseConnectionScanner);
+        indexTypes();
+        final Set<Class> changedClasses = getChangedClasses(knownClassToFields);
+        changedClasses.addAll(Arrays.asList(classes));
+        compactMetadata();
+        publishValidationPlans(changedClasses);
+    }
+
+    /**
+     * Add the classes of a package after the service was created.  Only the passed in package is scanned.
+     *
+     * @param packageName the package (and its sub packages) that should be considered for validation.
+     * @param classLoader the class loader that has the classes of the package.
+     * @see #registerClasses(Class[])
+     */
+    public synchronized void registerPackage(final String packageName, final ClassLoader classLoader) {
+        notNull(packageName, "the passed in package is null");
+        notNull(classLoader, "the passed in class loader is null");
+        if (Introspection.ON_DEMAND.equals(introspection)) {
+            resetOnDemandIntrospection(Collections.singleton(packageName));
+            return;
+        }
+        LOGGER.info("registering package {}", packageName);
+        expandMetadata();
+        final Map<Class, Set<Field>> knownClassToFields = getKnownClassToFields();
+        scan(Collections.singletonList(packageName), new HashSet<>(Arrays.asList(packageName, classLoader)),
+                classLoader, knownClassToFields.keySet());
+        indexTypes();
+        final Set<Class> changedClasses = getChangedClasses(knownClassToFields);
+        compactMetadata();
+        publishValidationPlans(changedClasses);
+    }
+
+    private void scan(final List<Object> paramsList, final Set<Object> paramsSet, final ClassLoader classLoader,
+                      final Set<Class> knownClasses) {
+        final ReverseConnectionScanner reverseConnectionScanner = new ReverseConnectionScanner();
+        measure(StartupReport.SCAN, () -> scanClasses(paramsList, paramsSet, classLoader,
+                reverseConnectionScanner));
+        knownClasses.forEach(reverseConnectionScanner::scan);
+        processScannedClasses(reverseConnectionScanner);
+    }
+
+    //the fields of the classes that have metadata before classes are registered
+    private Map<Class, Set<Field>> getKnownClassToFields() {
+        final Map<Class, Set<Field>> knownClassToFields = new HashMap<>();
+        for (Class clazz : getMetadataClasses()) {
+            knownClassToFields.put(clazz, new HashSet<>(classToFieldsMap.getOrDefault(clazz,
+                    Collections.emptySet())));
+        }
+        return knownClassToFields;
+    }
+
+    //the known classes with a field that reaches a validated field now
+    private Set<Class> getChangedClasses(final Map<Class, Set<Field>> knownClassToFields) {
+        final Set<Class> changedClasses = new HashSet<>();
+        knownClassToFields.forEach((clazz, fields) -> {
+            if (!fields.equals(classToFieldsMap.getOrDefault(clazz, Collections.emptySet()))) {
+                changedClasses.add(clazz);
+            }
+        });
+        return changedClasses;
+    }
+
+    private void processScannedClasses(final ReverseConnectionScanner reverseConnectionScanner) {
+        measure(StartupReport.ADD_DEFAULT_VALIDATORS,
+                () -> validatorAnnotations.forEach(this::addDefaultValidator));
         try {
-            findAndStoreValidationAnnotations();
-            findAndStorePathAliasAnnotations();
+            measure(StartupReport.FIND_VALIDATION_ANNOTATIONS, this::findAndStoreValidationAnnotations);
+            measure(StartupReport.FIND_PATH_ALIAS_ANNOTATIONS, this::findAndStorePathAliasAnnotations);
         } catch (ReflectionsException e) {
             if (e.getMessage().contains("Scanner FieldAnnotationsScanner was not configured")) {
                 throw new IllegalArgumentException("The validationService couldn't find any annotations."
@@ -100,90 +469,258 @@ public final class ValidationService {
                         + "can be found as strings.", e);
             }
         }
-        final TreeNode<Object> rootTreeNode = reverseConnectionScanner.getRootTreeNode();
-        recurseTreeAndRepopulateHelperMaps(new LinkedList<>(), new HashSet<>(
-                        rootTreeNode.getChildren()), rootTreeNode);
+        final TypeGraph<Object> typeGraph = reverseConnectionScanner.getTypeGraph();
+        measure(StartupReport.REACHABILITY, () -> addNodesThatReachValidatedFields(typeGraph));
+        if (startupReport != null) {
+            startupReport.setScannedClasses((int) typeGraph.getNodes().stream().filter(Class.class::isInstance)
+                    .count());
+            startupReport.setScannedFields((int) typeGraph.getNodes().stream().filter(Field.class::isInstance)
+                    .count());
+        }
     }
 
-    private void addDefaultValidator(final Class... classes) {
-        for (Class clazz : classes) {
-            if (!clazz.isAnnotation()
-                    || !clazz.isAnnotationPresent(com.github.vincentrussell.validation.annotation.Validator.class)) {
-                LOGGER.error("class {} is not an annotation with the Validator annotation.", clazz.getName());
-                throw new IllegalArgumentException(String.format("class %s is not an annotation"
-                        + "with the Validator annotation.", clazz.getName()));
+    private void scanClasses(final List<Object> paramsList, final Set<Object> paramsSet,
+                             final ClassLoader classLoader,
+                             final ReverseConnectionScanner reverseConnectionScanner) {
+        this.reflections = null;
+        final List<Object> urlParams = new ArrayList<>(paramsList);
+        urlParams.add(classLoader);
+        final Set<URL> urls = ConfigurationBuilder.build(urlParams.toArray(new Object[0])).getUrls();
+        final ValidationIndex validationIndex = ValidationIndex.load(classLoader);
+        this.scannedClasses = validationIndex.getClasses(urls, paramsList);
+        final List<URL> unindexedUrls = urls.stream().filter(url -> !validationIndex.isIndexed(url))
+                .collect(Collectors.toList());
+        this.indexed = scannedClasses != null && unindexedUrls.isEmpty();
+        if (scannedClasses == null) {
+            this.scannedClasses = new ClassFileScanner(classLoader).getClasses(urls, paramsList,
+                    validatorAnnotations, classesToValidate);
+        } else if (!unindexedUrls.isEmpty()) {
+            //the indexed classes and the classes of the jars and directories that were compiled without the index
+            //can reach each other, so both are looked up again until neither finds a new class
+            Set<Class> indexClasses = scannedClasses;
+            while (scannedClasses != null) {
+                final Set<Class> knownTypes = new HashSet<>(classesToValidate);
+                knownTypes.addAll(indexClasses);
+                final Set<Class> classFileClasses = new ClassFileScanner(classLoader).getClasses(unindexedUrls,
+                        paramsList, validatorAnnotations, knownTypes);
+                if (classFileClasses == null) {
+                    this.scannedClasses = null;
+                    break;
+                }
+                final Set<Class> reachingIndexClasses = validationIndex.getClasses(urls, paramsList,
+                        classFileClasses);
+                if (reachingIndexClasses.size() == indexClasses.size()) {
+                    scannedClasses.addAll(classFileClasses);
+                    break;
+                }
+                indexClasses = reachingIndexClasses;
+                this.scannedClasses = new HashSet<>(reachingIndexClasses);
             }
+        }
+        if (scannedClasses != null) {
+            LOGGER.info("found {} classes in the {}", scannedClasses.size(),
+                    indexed ? "validation index" : "class files");
+            scannedClasses.forEach(reverseConnectionScanner::scan);
+        } else {
+            this.reflections = new Reflections(ConfigurationBuilder.build(paramsSet.toArray(new Object[0]))
+                    .setScanners(new FieldAnnotationsScanner(), reverseConnectionScanner));
+        }
+    }
 
-            Set<Field> fieldsMarkedWithAnnotation = reflections.getFieldsAnnotatedWith(clazz);
-            fieldsMarkedWithAnnotation.forEach(field -> {
-                fieldsMarkedWithValidation.add(field);
-                addFieldToClassToFieldMap(field, clazz);
-            });
+    private static List<Class<? extends Annotation>> getValidatorAnnotations(final Set<Object> paramsSet) {
+        final List<Class<? extends Annotation>> annotations = new ArrayList<>();
+        for (Object param : paramsSet) {
+            if (Class.class.isInstance(param) && ((Class) param).isAnnotation()
+                    && ((Class) param).isAnnotationPresent(
+                            com.github.vincentrussell.validation.annotation.Validator.class)) {
+                annotations.add((Class<? extends Annotation>) param);
+            }
         }
+        return annotations;
     }
 
-    private void recurseTreeAndRepopulateHelperMaps(final LinkedList<TreeNode<Object>> classStack,
-                                                    final Set<TreeNode<Object>> rootNotesToNotRepeat,
-                                                    final TreeNode<Object> thisNode) {
-        final List<TreeNode<Object>> list = new ArrayList<>(thisNode.getChildren());
-        //do the deepest paths first to allow detection of circular paths
-        Collections.sort(list, (o1, o2) -> Long.compare(o2.getDepth(), o1.getDepth()));
+    private ClassLoader getClassLoader() {
+        return firstNonNull(Thread.currentThread().getContextClassLoader(), ValidationService.class.getClassLoader());
+    }
 
-        for (TreeNode<Object> treeNode : list) {
-            classStack.add(treeNode);
-            if (rootNotesToNotRepeat.contains(treeNode)) {
-                List<TreeNode<Object>> treeNodeInSTack = classStack.stream()
-                        .filter(objectTreeNode -> objectTreeNode.equals(treeNode)).collect(Collectors.toList());
-                if (treeNodeInSTack.size() > 1) {
-                    //circular path detected...abort
-                    classStack.pop();
-                    continue;
+    private boolean readMetadataSnapshot(final MetadataSnapshot metadataSnapshot, final String fingerprint) {
+        final SnapshotInput snapshotInput = metadataSnapshot.read(fingerprint);
+        if (snapshotInput == null) {
+            return false;
+        }
+        final ClassLoader classLoader = getClassLoader();
+        final Map<String, Validator> validators = new HashMap<>();
+        final Map<Class, Set<Field>> classToFields = new HashMap<>();
+        final Map<Field, Set<String>> validatorNames = new HashMap<>();
+        final Map<Field, Set<String>> types = new HashMap<>();
+        final Map<Field, String> errorMessages = new HashMap<>();
+        final Map<Field, String> aliases = new HashMap<>();
+        try {
+            for (int i = snapshotInput.readInt(); i > 0; i--) {
+                final String name = snapshotInput.readString();
+                final Class<? extends Validator> validatorClass = Class.forName(snapshotInput.readString(), false,
+                        classLoader).asSubclass(Validator.class);
+                final Object[] parameterValues = new Object[snapshotInput.readInt()];
+                for (int j = 0; j < parameterValues.length; j++) {
+                    parameterValues[j] = snapshotInput.readValue();
                 }
+                validators.put(name, measure(StartupReport.INSTANTIATE_VALIDATORS,
+                        () -> ValidatorInterpreter.instantiate(validatorClass, parameterValues)));
+                countValidatorInstance();
             }
-            recurseTreeAndRepopulateHelperMaps(classStack, rootNotesToNotRepeat, treeNode);
+            for (int i = snapshotInput.readInt(); i > 0; i--) {
+                final Class<?> declaringClass = Class.forName(snapshotInput.readString(), false, classLoader);
+                final Set<Field> fields = classToFields.computeIfAbsent(declaringClass, aClass -> new HashSet<>());
+                for (int j = snapshotInput.readInt(); j > 0; j--) {
+                    final Field field = declaringClass.getDeclaredField(snapshotInput.readString());
+                    fields.add(field);
+                    putIfNotEmpty(validatorNames, field, snapshotInput.readStrings());
+                    putIfNotEmpty(types, field, snapshotInput.readStrings());
+                    putIfNotNull(errorMessages, field, snapshotInput.readString());
+                    putIfNotNull(aliases, field, snapshotInput.readString());
+                }
+            }
+        } catch (ClassNotFoundException | NoSuchFieldException | LinkageError | RuntimeException e) {
+            LOGGER.warn(String.format("the metadata snapshot at %s doesn't match the classes, it will be rewritten",
+                    metadataSnapshot.getPath()), e);
+            return false;
         }
+        validators.forEach(this::addValidator);
+        classesToValidate.addAll(classToFields.keySet());
+        classToFieldsMap.putAll(classToFields);
+        fieldToValidatorNames.putAll(validatorNames);
+        fieldToTypes.putAll(types);
+        fieldToErrorMessageMap.putAll(errorMessages);
+        fieldToAliasMap.putAll(aliases);
+        LOGGER.info("read {} classes from the metadata snapshot at {}", classToFields.size(),
+                metadataSnapshot.getPath());
+        return true;
+    }
 
-
-        if (classStack.isEmpty()) {
-            return;
+    private void countValidatorInstance() {
+        if (startupReport != null) {
+            startupReport.incrementValidatorInstances();
         }
+    }
 
-        if (Field.class.isInstance(classStack.peekLast().getData())) {
-            addStackToValidate(classStack);
+    private static <T> void putIfNotEmpty(final Map<Field, Set<T>> map, final Field field, final List<T> values) {
+        if (!values.isEmpty()) {
+            map.put(field, new HashSet<>(values));
         }
+    }
 
-        if (!classStack.isEmpty()) {
-            classStack.pollLast();
+    private static <T> void putIfNotNull(final Map<Field, T> map, final Field field, final T value) {
+        if (value != null) {
+            map.put(field, value);
         }
+    }
 
-        if (!classStack.isEmpty() && Field.class.isInstance(classStack.peekLast().getData())) {
-            addStackToValidate(classStack);
+    private void writeMetadataSnapshot(final MetadataSnapshot metadataSnapshot, final String fingerprint) {
+        try {
+            final SnapshotOutput snapshotOutput = metadataSnapshot.createOutput(fingerprint);
+            snapshotOutput.writeInt(validatorNameToInterpreter.size());
+            for (Map.Entry<String, ValidatorInterpreter> entry : validatorNameToInterpreter.entrySet()) {
+                snapshotOutput.writeString(entry.getKey());
+                snapshotOutput.writeString(entry.getValue().getValidatorClass().getName());
+                final Object[] parameterValues = entry.getValue().getParameterValues();
+                snapshotOutput.writeInt(parameterValues.length);
+                for (Object parameterValue : parameterValues) {
+                    snapshotOutput.writeValue(parameterValue);
+                }
+            }
+            final Set<Class> classes = new HashSet<>(classesToValidate);
+            classes.addAll(classToFieldsMap.keySet());
+            snapshotOutput.writeInt(classes.size());
+            for (Class clazz : classes) {
+                final Set<Field> fields = classToFieldsMap.getOrDefault(clazz, Collections.emptySet());
+                snapshotOutput.writeString(clazz.getName());
+                snapshotOutput.writeInt(fields.size());
+                for (Field field : fields) {
+                    snapshotOutput.writeString(field.getName());
+                    snapshotOutput.writeStrings(fieldToValidatorNames.get(field));
+                    snapshotOutput.writeStrings(fieldToTypes.get(field));
+                    snapshotOutput.writeString(fieldToErrorMessageMap.get(field));
+                    snapshotOutput.writeString(fieldToAliasMap.get(field));
+                }
+            }
+            metadataSnapshot.write(snapshotOutput);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn(String.format("could not write the metadata snapshot to %s", metadataSnapshot.getPath()), e);
         }
     }
 
-    private void addStackToValidate(final LinkedList<TreeNode<Object>> classStack) {
-        LinkedList<TreeNode<Object>> copy = new LinkedList<>(classStack);
-        final Field field = (Field) copy.pollLast().getData();
+    /**
+     * Check if what was found on startup was read from a
+     * {@link com.github.vincentrussell.validation.snapshot.MetadataSnapshot}.
+     *
+     * @return true if the snapshot was used.
+     */
+    boolean isLoadedFromSnapshot() {
+        return loadedFromSnapshot;
+    }
 
-        if (!fieldsMarkedWithValidation.contains(field)) {
-            return;
+    private void addDefaultValidator(final Class... classes) {
+        for (Class clazz : classes) {
+            if (!clazz.isAnnotation()
+                    || !clazz.isAnnotationPresent(com.github.vincentrussell.validation.annotation.Validator.class)) {
+                LOGGER.error("class {} is not an annotation with the Validator annotation.", clazz.getName());
+                throw new IllegalArgumentException(String.format("class %s is not an annotation"
+                        + "with the Validator annotation.", clazz.getName()));
+            }
+
+            Set<Field> fieldsMarkedWithAnnotation = getFieldsAnnotatedWith(clazz);
+            fieldsMarkedWithAnnotation.forEach(field -> {
+                addFieldToClassToFieldMap(field, clazz);
+            });
         }
+    }
 
-        final List<TreeNode<Object>> list = new ArrayList<>(copy);
-        Collections.reverse(list);
+    private Set<Field> getFieldsAnnotatedWith(final Class<? extends Annotation> annotation) {
+        if (scannedClasses == null) {
+            return reflections.getFieldsAnnotatedWith(annotation);
+        }
+        final Set<Field> fields = new HashSet<>();
+        for (Class scannedClass : scannedClasses) {
+            for (Field field : scannedClass.getDeclaredFields()) {
+                if (field.isAnnotationPresent(annotation)) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
 
-        for (TreeNode<Object> treeNode : list) {
-            if (Class.class.isInstance(treeNode.getData())) {
-                classesToValidate.add((Class) treeNode.getData());
-            } else if (Field.class.isInstance(treeNode.getData())) {
-                classToFieldsMap.computeIfAbsent(((Field) treeNode.getData()).getDeclaringClass(),
-                        aClass -> new HashSet<>()).add((Field) treeNode.getData());
+    /**
+     * Check if the classes were found in the {@link ValidationIndex} instead of scanning the classpath.
+     *
+     * @return true if the {@link ValidationIndex} was used.
+     */
+    boolean isIndexed() {
+        return indexed;
+    }
+
+    private void addNodesThatReachValidatedFields(final TypeGraph<Object> typeGraph) {
+        //classes that are already known to reach a validated field are targets too when classes are registered later
+        //every field that is marked with validation has validator names, even if there are none
+        final Set<Object> targets = new HashSet<>(fieldToValidatorNames.keySet());
+        targets.addAll(classesToValidate);
+        final Set<Object> reachingNodes = typeGraph.getNodesThatReach(targets);
+        LOGGER.debug("{} of {} nodes reach a validated field", reachingNodes.size(), typeGraph.getNodeCount());
+        for (Object node : reachingNodes) {
+            if (typeGraph.getRoot().equals(node) && typeGraph.getPredecessors(node).isEmpty()) {
+                //the root is only a class to validate when a field of type Object points back to it
+                continue;
+            } else if (Class.class.isInstance(node)) {
+                classesToValidate.add((Class) node);
+            } else if (Field.class.isInstance(node)) {
+                classToFieldsMap.computeIfAbsent(((Field) node).getDeclaringClass(),
+                        aClass -> new HashSet<>()).add((Field) node);
             }
         }
     }
 
     private void findAndStorePathAliasAnnotations() {
-        reflections.getFieldsAnnotatedWith(PathAlias.class).forEach(
+        getFieldsAnnotatedWith(PathAlias.class).forEach(
                 field -> {
                     if (field.isAnnotationPresent(PathAlias.class)) {
                         PathAlias pathAlias = field.getAnnotation(PathAlias.class);
@@ -197,8 +734,8 @@ public final class ValidationService {
     }
 
     private void findAndStoreValidationAnnotations() {
-        fieldsMarkedWithValidation.addAll(reflections.getFieldsAnnotatedWith(Validation.class));
-        fieldsMarkedWithValidation.forEach(field -> {
+        final Set<Field> fields = getFieldsAnnotatedWith(Validation.class);
+        fields.forEach(field -> {
             addFieldToClassToFieldMap(field, null);
         });
     }
@@ -224,9 +761,12 @@ public final class ValidationService {
         ValidatorInterpreter validatorInterpreter = new ValidatorInterpreter(
                 customValidationAnnotation, annotation, field);
 
-        if (!validatorNameToValidator.containsKey(validatorInterpreter.getValidatorName())) {
-            Validator validatorObj = validatorInterpreter.instantiate();
+        if (!validatorRegistry.get().getValidators().containsKey(validatorInterpreter.getValidatorName())) {
+            Validator validatorObj = measure(StartupReport.INSTANTIATE_VALIDATORS,
+                    (Supplier<Validator>) validatorInterpreter::instantiate);
+            countValidatorInstance();
             addValidator(validatorInterpreter.getValidatorName(), validatorObj);
+            validatorNameToInterpreter.put(validatorInterpreter.getValidatorName(), validatorInterpreter);
         }
 
         LOGGER.debug("found validators field={}, validators={}", field, validatorInterpreter.getValidatorName());
@@ -285,19 +825,20 @@ public final class ValidationService {
         notNull(validator, "the passed in validator is null ");
         notNull(key, "there must be a name for this validator " + validator.toString());
         LOGGER.info("addValidator key={}, validator={}", key, validator);
-        validatorNameToValidator.put(key, validator);
+        validatorRegistry.set(validatorRegistry.get().withValidators(Collections.singletonMap(key, validator)));
     }
 
     /**
-     * add a {@link com.github.vincentrussell.validation.Validator}.
+     * add a {@link com.github.vincentrussell.validation.Validator}.  Validations that are running keep using the
+     * validators that they started with.
      * @param validator the {@link com.github.vincentrussell.validation.Validator}
      */
-    public void addValidator(final Validator validator) {
+    public synchronized void addValidator(final Validator validator) {
         notNull(validator, "the passed in validator is null ");
         String name = validator.getName();
         notNull(name, "there must be a name for this validator " + validator.toString());
-        LOGGER.info("addValidator key={}, validator={}", name, validator);
-        validatorNameToValidator.put(name, validator);
+        addValidator(name, validator);
+        compileValidationPlans();
     }
 
     /**
@@ -307,9 +848,11 @@ public final class ValidationService {
      * @param typeDeterminer the class that is used to determine the type for that class
      * @param <T> the type of the main class.  Makes sure that tye {@link TypeDeterminer} corresponds to the class
      */
-    public <T> void addTypeDeterminer(final Class<T> objectWithTypeClass, final TypeDeterminer<T> typeDeterminer) {
+    public synchronized <T> void addTypeDeterminer(final Class<T> objectWithTypeClass,
+                                                   final TypeDeterminer<T> typeDeterminer) {
         LOGGER.info("addTypeDeterminer objectWithTypeClass={}, typeDeterminer={}", objectWithTypeClass, typeDeterminer);
-        classToTypeDeterminerMap.put(objectWithTypeClass, typeDeterminer);
+        validatorRegistry.set(validatorRegistry.get().withTypeDeterminers(
+                Collections.singletonMap(objectWithTypeClass, typeDeterminer)));
     }
 
     /**
@@ -318,11 +861,12 @@ public final class ValidationService {
      * @param map the map of main class to {@link com.github.vincentrussell.validation.type.TypeDeterminer}
      * @param <T> the type of the main class.  Makes sure that tye {@link TypeDeterminer} corresponds to the class
      */
-    public <T> void addTypeDeterminers(final Map<? extends Class<T>, ? extends TypeDeterminer<T>> map) {
-        classToTypeDeterminerMap.forEach((objectWithTypeClass, typeDeterminer)
+    public synchronized <T> void addTypeDeterminers(
+            final Map<? extends Class<T>, ? extends TypeDeterminer<T>> map) {
+        map.forEach((objectWithTypeClass, typeDeterminer)
                 -> LOGGER.info("addTypeDeterminer objectWithTypeClass={}, typeDeterminer={}",
                 objectWithTypeClass, typeDeterminer));
-        classToTypeDeterminerMap.putAll(map);
+        validatorRegistry.set(validatorRegistry.get().withTypeDeterminers(map));
     }
 
     /**
@@ -330,156 +874,491 @@ public final class ValidationService {
      *
      * @param map the map of key to {@link com.github.vincentrussell.validation.Validator}s.
      */
-    public void addValidators(final Map<? extends String, ? extends Validator> map) {
-        validatorNameToValidator.forEach((key, validator) ->
+    public synchronized void addValidators(final Map<? extends String, ? extends Validator> map) {
+        map.forEach((key, validator) ->
                 LOGGER.info("addValidator key={}, validator={}", key, validator));
-        validatorNameToValidator.putAll(map);
+        validatorRegistry.set(validatorRegistry.get().withValidators(map));
+        compileValidationPlans();
     }
 
+    /**
+     * Set how the validation plans are run.  The plans are compiled again for the new engine.
+     *
+     * @param validationEngine the {@link com.github.vincentrussell.validation.ValidationEngine}.
+     */
+    public synchronized void setValidationEngine(final ValidationEngine validationEngine) {
+        notNull(validationEngine, "the passed in validationEngine is null");
+        LOGGER.info("setValidationEngine validationEngine={}", validationEngine);
+        this.validationEngine = validationEngine;
+        if (ValidationEngine.GENERATED.equals(validationEngine) && planExecutorGenerator == null) {
+            if (isJavassistAvailable()) {
+                planExecutorGenerator = new PlanExecutorGenerator();
+            } else {
+                LOGGER.warn("javassist is not on the classpath, the validation plans will be interpreted");
+            }
+        }
+        compileValidationPlans();
+    }
+
+    //javassist is an optional dependency, the generator can't even be loaded without it
+    private static boolean isJavassistAvailable() {
+        try {
+            Class.forName("javassist.ClassPool", false, ValidationService.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
 
     /**
-     * Validate the pojo based on the provided {@link com.github.vincentrussell.validation.Validator}s.  And the
-     * {@link com.github.vincentrussell.validation.annotation.Validation} annotations.
+     * Get how the validation plans are run.
      *
-     * @param object the object that can be validate.  All fields will be checked recursively for validation.
-     * @return the {@link com.github.vincentrussell.validation.ValidationResponse} that will contain all of the
-     * {@link com.github.vincentrussell.validation.ValidationError}s.
+     * @return the {@link com.github.vincentrussell.validation.ValidationEngine}.
      */
-    public ValidationResponse validate(final Object object) {
-        final Stack<String> pathStack = new Stack<>();
-        final ValidationResponse validationResponse = new ValidationResponse();
-        if (classesToValidate.contains(object.getClass())) {
-            TypeDeterminer typeDeterminer = classToTypeDeterminerMap.get(object.getClass());
-            LOGGER.debug("found typeDeterminer {} for class ", typeDeterminer, object.getClass());
-            doValidate(object, validationResponse, pathStack, object, object.getClass(),
-                    (typeDeterminer != null) ? typeDeterminer.getType(object) : null);
-        }
-        return validationResponse;
-    }
-
-    private void doValidate(final Object mainObject, final ValidationResponse validationResponse,
-                            final Stack<String> pathStack, final Object object, final Class<?> type,
-                            final String determinedType) {
-        if (Iterable.class.isInstance(object)) {
-            doValidateIteratorObject(mainObject, validationResponse, pathStack, (Iterable) object, determinedType);
-            return;
-        } else if (Map.class.isInstance(object)) {
-            doValidateMapObject(mainObject, validationResponse, pathStack, (Map) object, determinedType);
+    public synchronized ValidationEngine getValidationEngine() {
+        return validationEngine;
+    }
+
+    /**
+     * Get the compiled plan for a class.
+     *
+     * @param type the class.
+     * @return the {@link ValidationPlan} or null if the class is not validated.
+     */
+    ValidationPlan getValidationPlan(final Class<?> type) {
+        return validatorRegistry.get().getPlanLookup().apply(type);
+    }
+
+    private void indexTypes() {
+        if (compactMetadata == null) {
+            fieldToTypes.values().forEach(types -> types.forEach(this::indexType));
             return;
         }
-        for (Field field : firstNonNull(classToFieldsMap.get(type), Collections.<Field>emptyList())) {
-            pathStack.add(firstNonNull(fieldToAliasMap.get(field), field.getName()));
-            doValidateField(mainObject, validationResponse, pathStack, object, field, determinedType);
-            pathStack.pop();
+        for (ClassMetadata classMetadata : compactMetadata.values()) {
+            for (int i = 0; i < classMetadata.getFieldCount(); i++) {
+                classMetadata.getTypes(i).forEach(this::indexType);
+            }
+        }
+    }
+
+    private int indexType(final String type) {
+        synchronized (typeToIndexMap) {
+            return typeToIndexMap.computeIfAbsent(type, s -> typeToIndexMap.size());
         }
     }
 
-    private void doValidateField(final Object mainObject, final ValidationResponse validationResponse,
-                                 final Stack<String> pathStack,
-                                 final Object object, final Field field, final String determinedType) {
-        Collection<String> validators = firstNonNull(
-                fieldToValidatorNames.get(field), Collections.emptyList());
-        if (validators.isEmpty()) {
-            doValidateWhenNoValidatorsFound(mainObject, validationResponse, pathStack, object, field, determinedType);
+    private void compileValidationPlans() {
+        if (Introspection.ON_DEMAND.equals(introspection)) {
+            validatorRegistry.set(validatorRegistry.get().withOnDemandValidationPlans(
+                    new ClassValue<ValidationPlan>() {
+                        @Override
+                        protected ValidationPlan computeValue(final Class<?> type) {
+                            return compileOnDemandValidationPlan(type);
+                        }
+                    }));
             return;
         }
+        final Map<Class, ValidationPlan> plans = ClassScopedMap.forClasses();
+        for (Class clazz : getMetadataClasses()) {
+            plans.put(clazz, compileValidationPlan(clazz));
+        }
+        validatorRegistry.set(validatorRegistry.get().withValidationPlans(plans));
+    }
 
-        for (String validatorName : validators) {
-            Validator validator = validatorNameToValidator.get(validatorName);
-            if (validator != null) {
-                doValidateAndAddErrorToValidationResponse(mainObject, validationResponse, pathStack, object,
-                        field, validator, determinedType);
+    private void publishValidationPlans(final Collection<Class> changedClasses) {
+        final Map<Class, ValidationPlan> plans = ClassScopedMap.forClasses();
+        plans.putAll(validatorRegistry.get().getValidationPlans());
+        final Set<Class> metadataClasses = getMetadataClasses();
+        final Set<Class> classes = new HashSet<>(metadataClasses);
+        classes.removeAll(plans.keySet());
+        classes.addAll(changedClasses);
+        for (Class clazz : classes) {
+            if (metadataClasses.contains(clazz)) {
+                plans.put(clazz, compileValidationPlan(clazz));
             }
         }
+        LOGGER.debug("publishing {} new validation plans", classes.size());
+        validatorRegistry.set(validatorRegistry.get().withValidationPlans(plans));
     }
 
-    private void doValidateWhenNoValidatorsFound(final Object mainObject, final ValidationResponse validationResponse,
-                                                 final Stack<String> pathStack,
-                                                 final Object object, final Field field,
-                                                 final String determinedType) {
-        Object value = null;
-        try {
-            value = ReflectionUtils.getValue(field, object);
-            if (value != null) {
-                doValidate(mainObject, validationResponse, pathStack, value, field.getType(), determinedType);
+    private void resetOnDemandIntrospection(final Set<String> packagePrefixes) {
+        if (packagePrefixes == null) {
+            throw new IllegalArgumentException("only packages and classes can be registered");
+        }
+        if (!onDemandPackagePrefixes.isEmpty()) {
+            final Set<String> prefixes = new HashSet<>(onDemandPackagePrefixes);
+            prefixes.addAll(packagePrefixes);
+            onDemandPackagePrefixes = prefixes;
+        }
+        //classes that were introspected before might reach the new classes
+        onDemandIntrospectedClasses.clear();
+        compileValidationPlans();
+    }
+
+    private synchronized ValidationPlan compileOnDemandValidationPlan(final Class<?> type) {
+        introspect(type);
+        indexTypes();
+        return classesToValidate.contains(type) ? compileValidationPlan(type) : null;
+    }
+
+    private void introspect(final Class<?> type) {
+        final TypeGraph<Class<?>> typeGraph = new TypeGraph<>(type);
+        final Set<Class<?>> introspectedClasses = new HashSet<>();
+        final Set<Class<?>> validatedClasses = new HashSet<>();
+        final Deque<Class<?>> queue = new ArrayDeque<>(Collections.singleton(type));
+        while (!queue.isEmpty()) {
+            final Class<?> clazz = queue.poll();
+            if (onDemandIntrospectedClasses.containsKey(clazz) || !isIntrospected(clazz)
+                    || !introspectedClasses.add(clazz)) {
+                if (Boolean.TRUE.equals(onDemandIntrospectedClasses.get(clazz))) {
+                    validatedClasses.add(clazz);
+                }
+                continue;
+            }
+            for (Field field : clazz.getDeclaredFields()) {
+                if (isMarkedWithValidation(field)) {
+                    validatedClasses.add(clazz);
+                }
+                for (Class<?> fieldType : getFieldTypes(field)) {
+                    typeGraph.addEdge(clazz, fieldType);
+                    queue.add(fieldType);
+                }
             }
-        } catch (IllegalAccessException e) {
-            LOGGER.error(String.format("error validating field=%s, value=%s", field, value), e.getMessage());
-            validationResponse.addError(new ValidationError(pathStack, value, e));
         }
+        LOGGER.debug("introspected {} classes for {}", introspectedClasses.size(), type);
+
+        final Set<Class<?>> reachingClasses = typeGraph.getNodesThatReach(validatedClasses);
+        introspectedClasses.forEach(clazz -> onDemandIntrospectedClasses.put(clazz,
+                reachingClasses.contains(clazz)));
+        introspectedClasses.stream().filter(reachingClasses::contains).forEach(this::addIntrospectedClass);
     }
 
-    private void doValidateAndAddErrorToValidationResponse(final Object mainObject,
-                                                           final ValidationResponse validationResponse,
-                                                           final Stack<String> pathStack, final Object object,
-                                                           final Field field, final Validator validator,
-                                                           final String determinedType) {
-        Object value = null;
-        try {
-            Set<String> types = determinedType != null ? fieldToTypes.get(field) : Collections.emptySet();
-            if (!types.isEmpty() && !types.contains(determinedType)) {
-                return;
+    private boolean isIntrospected(final Class<?> clazz) {
+        if (clazz.isPrimitive() || clazz.isArray() || clazz.getClassLoader() == null) {
+            return false;
+        }
+        return onDemandPackagePrefixes.isEmpty() || onDemandPackagePrefixes.stream()
+                .anyMatch(prefix -> clazz.getName().startsWith(prefix));
+    }
+
+    private boolean isMarkedWithValidation(final Field field) {
+        return field.isAnnotationPresent(Validation.class) || Arrays.stream(field.getAnnotations())
+                .anyMatch(annotation -> annotation.annotationType().isAnnotationPresent(
+                        com.github.vincentrussell.validation.annotation.Validator.class));
+    }
+
+    private Set<Class<?>> getFieldTypes(final Field field) {
+        final Set<Class<?>> fieldTypes = new HashSet<>();
+        if ((Iterable.class.isAssignableFrom(field.getType()) || Map.class.isAssignableFrom(field.getType()))
+                && ParameterizedType.class.isInstance(field.getGenericType())) {
+            for (Type actualType : ((ParameterizedType) field.getGenericType()).getActualTypeArguments()) {
+                if (Class.class.isInstance(actualType)) {
+                    fieldTypes.add((Class<?>) actualType);
+                }
             }
-            value = ReflectionUtils.getValue(field, object);
-            LOGGER.debug("validating field={}, validator={}, value={}", field, validator, value);
-            ValidationError validationError = null;
-            if (ValidatorWithMainObject.class.isInstance(validator)) {
-                validationError = ((ValidatorWithMainObject) validator).validate(value, mainObject);
+        } else {
+            fieldTypes.add(field.getType());
+        }
+        return fieldTypes;
+    }
+
+    private void addIntrospectedClass(final Class<?> clazz) {
+        classesToValidate.add(clazz);
+        for (Field field : clazz.getDeclaredFields()) {
+            if (isMarkedWithValidation(field)) {
+                addFieldToClassToFieldMap(field, null);
+                for (Annotation annotation : field.getAnnotations()) {
+                    if (annotation.annotationType().isAnnotationPresent(
+                            com.github.vincentrussell.validation.annotation.Validator.class)) {
+                        processDefaultValidationAnnotation(field, annotation.annotationType());
+                    }
+                }
+            } else if (getFieldTypes(field).stream().anyMatch(fieldType -> Boolean.TRUE.equals(
+                    onDemandIntrospectedClasses.get(fieldType)))) {
+                classToFieldsMap.computeIfAbsent(clazz, aClass -> new HashSet<>()).add(field);
             } else {
-                validationError = validator.validate(value);
+                continue;
             }
-            LOGGER.debug("validating field={}, validator={}, value={}, validationError={}", field,
-                    validator, value, validationError);
-            if (validationError != null) {
-                addValidationErrorToValidationResponse(validationResponse, pathStack, field, value, validationError);
+            if (field.isAnnotationPresent(PathAlias.class)) {
+                fieldToAliasMap.put(field, field.getAnnotation(PathAlias.class).value());
             }
-        } catch (Throwable e) {
-            LOGGER.error(String.format("error validating field=%s, validator=%s, value=%s", field,
-                    validator, value), e.getMessage());
-            ValidationError validationError = new ValidationError(pathStack, value, e);
-            validationError.setValue(value);
-            validationResponse.addError(validationError);
         }
     }
 
-    private void addValidationErrorToValidationResponse(final ValidationResponse validationResponse,
-                                                        final Stack<String> pathStack, final Field field,
-                                                        final Object value, final ValidationError validationError) {
-        String errorMessage = fieldToErrorMessageMap.get(field);
-
-        if (!StringUtils.isEmpty(errorMessage)) {
-            validationError.setErrorMessage(errorMessage);
+    private ValidationPlan compileValidationPlan(final Class<?> type) {
+        final ClassMetadata classMetadata = getClassMetadata(type);
+        final Map<String, Validator> validators = validatorRegistry.get().getValidators();
+        final FieldStep[] fieldStepArray = new FieldStep[classMetadata.getFieldCount()];
+        for (int i = 0; i < fieldStepArray.length; i++) {
+            fieldStepArray[i] = compileFieldStep(classMetadata, i, validators);
         }
-        validationError.setValue(value);
-        validationError.setField(pathStack);
-        validationResponse.addError(validationError);
+        final PlanExecutor planExecutor = ValidationEngine.GENERATED.equals(validationEngine)
+                && planExecutorGenerator != null ? planExecutorGenerator.generate(type, fieldStepArray) : null;
+        return new ValidationPlan(type, fieldStepArray, planExecutor);
     }
 
-    private void doValidateIteratorObject(final Object mainObject, final ValidationResponse validationResponse,
-                                          final Stack<String> pathStack, final Iterable<Object> object,
-                                          final String determinedType) {
-        for (Object obj : object) {
-            if (obj != null) {
-                doValidate(mainObject, validationResponse, pathStack, obj, obj.getClass(), determinedType);
+    private FieldStep compileFieldStep(final ClassMetadata classMetadata, final int index,
+                                       final Map<String, Validator> validatorsByName) {
+        final Field field = classMetadata.getField(index);
+        final List<String> validatorNames = classMetadata.getValidatorNames(index);
+        final List<Validator> validators = new ArrayList<>(validatorNames.size());
+        for (String validatorName : validatorNames) {
+            Validator validator = validatorsByName.get(validatorName);
+            if (validator != null) {
+                validators.add(validator);
             }
         }
+        return new FieldStep(FieldAccessor.of(field),
+                firstNonNull(classMetadata.getAlias(index), field.getName()),
+                validators.toArray(new Validator[0]), validatorNames.isEmpty(),
+                classMetadata.getErrorMessage(index), compileTypeMask(classMetadata.getTypes(index)));
     }
 
-    private void doValidateMapObject(final Object mainObject, final ValidationResponse validationResponse,
-                                     final Stack<String> pathStack, final Map object,
-                                     final String determinedType) {
-        for (Object entry : object.entrySet()) {
-            if (Map.Entry.class.isInstance(entry)) {
-                Map.Entry thisEntry = (Map.Entry) entry;
-                if (thisEntry.getKey() != null) {
-                    doValidate(mainObject, validationResponse, pathStack, thisEntry.getKey(),
-                            thisEntry.getKey().getClass(), determinedType);
-                }
-                if (thisEntry.getValue() != null) {
-                    doValidate(mainObject, validationResponse, pathStack, thisEntry.getValue(),
-                            thisEntry.getValue().getClass(), determinedType);
-                }
-            }
+    private BitSet compileTypeMask(final List<String> types) {
+        if (types.isEmpty()) {
+            return null;
+        }
+        final BitSet typeMask = new BitSet(typeToIndexMap.size());
+        types.forEach(type -> typeMask.set(typeToIndexMap.get(type)));
+        return typeMask;
+    }
+
+    //the plan of the object is looked up first, so on demand the classes that its fields reach are introspected and
+    //their types are indexed, a type that no introspected field declares can't select a step
+    private int getTypeIndex(final String determinedType) {
+        if (determinedType == null) {
+            return FieldStep.ALL_TYPES;
         }
+        final Integer typeIndex = typeToIndexMap.get(determinedType);
+        return typeIndex != null ? typeIndex : FieldStep.UNKNOWN_TYPE;
+    }
+
+    /**
+     * Get the number of types that are declared on the fields of the validated classes.
+     *
+     * @return the number of types.
+     */
+    int getIndexedTypeCount() {
+        return typeToIndexMap.size();
+    }
+
+    /**
+     * Check the pojo without collecting the errors.  The traversal stops at the first error and no paths, errors or
+     * messages are built, so checking a valid object doesn't allocate.
+     *
+     * @param object the object that can be validate.  All fields will be checked recursively for validation.
+     * @return true if {@link #validate(Object)} would return a valid response.
+     */
+    public boolean isValid(final Object object) {
+        final ValidatorRegistry registry = validatorRegistry.get();
+        final Function<Class<?>, ValidationPlan> plans = registry.getPlanLookup();
+        if (plans.apply(object.getClass()) == null) {
+            return true;
+        }
+        final TypeDeterminer typeDeterminer = registry.getTypeDeterminer(object.getClass());
+        ValidityCheck validityCheck = validityChecks.get();
+        if (validityCheck.isRunning()) {
+            validityCheck = new ValidityCheck();
+        }
+        return validityCheck.isValid(plans, object,
+                getTypeIndex((typeDeterminer != null) ? typeDeterminer.getType(object) : null));
+    }
+
+    /**
+     * Validate the pojo based on the provided {@link com.github.vincentrussell.validation.Validator}s.  And the
+     * {@link com.github.vincentrussell.validation.annotation.Validation} annotations.
+     *
+     * @param object the object that can be validate.  All fields will be checked recursively for validation.
+     * @return the {@link com.github.vincentrussell.validation.ValidationResponse} that will contain all of the
+     * {@link com.github.vincentrussell.validation.ValidationError}s.
+     */
+    public ValidationResponse validate(final Object object) {
+        return validate(object, ValidationOptions.DEFAULT);
+    }
+
+    /**
+     * Validate the pojo and stop once the limit of the {@link ValidationOptions} is reached.  The fields, elements
+     * and entries after that are not visited.
+     *
+     * @param object  the object that can be validate.  All fields will be checked recursively for validation.
+     * @param options the {@link ValidationOptions}, for example {@link ValidationOptions#failFast()}.
+     * @return the {@link com.github.vincentrussell.validation.ValidationResponse} with at most
+     * {@link ValidationOptions#getMaxErrors()} {@link com.github.vincentrussell.validation.ValidationError}s.
+     */
+    public ValidationResponse validate(final Object object, final ValidationOptions options) {
+        notNull(options, "the passed in options are null");
+        final ValidatorRegistry registry = validatorRegistry.get();
+        final Function<Class<?>, ValidationPlan> plans = registry.getPlanLookup();
+        if (plans.apply(object.getClass()) == null) {
+            return ValidationResponse.VALID;
+        }
+        TypeDeterminer typeDeterminer = registry.getTypeDeterminer(object.getClass());
+        LOGGER.debug("found typeDeterminer {} for class ", typeDeterminer, object.getClass());
+        return validate(plans, typeDeterminer, object, options, null);
+    }
+
+    /**
+     * Validate an object whose plan and type determiner were already looked up.
+     *
+     * @param plans          finds the plan for a class or returns null if the class is not validated.
+     * @param typeDeterminer the {@link TypeDeterminer} of the class of the object or null.
+     * @param object         the object, its class has a plan.
+     * @param options        the {@link ValidationOptions}.
+     * @param cancellation   the validation stops once this future is cancelled, null if it can't be cancelled.
+     * @return the {@link ValidationResponse}.
+     */
+    ValidationResponse validate(final Function<Class<?>, ValidationPlan> plans, final TypeDeterminer typeDeterminer,
+                                final Object object, final ValidationOptions options,
+                                final java.util.concurrent.Future<?> cancellation) {
+        return new ValidationTraversal(plans, object,
+                getTypeIndex((typeDeterminer != null) ? typeDeterminer.getType(object) : null), options,
+                cancellation, null).validate();
+    }
+
+    /**
+     * Validate the pojo and pass every error to a {@link ViolationSink} as soon as it is found.  No errors are kept,
+     * so the memory that is used doesn't grow with the number of errors.
+     *
+     * @param object the object that can be validate.  All fields will be checked recursively for validation.
+     * @param sink   the {@link ViolationSink}, it can stop the validation.
+     * @return the number of errors that were passed to the sink.
+     */
+    public int validate(final Object object, final ViolationSink sink) {
+        return validate(object, ValidationOptions.DEFAULT, sink);
+    }
+
+    /**
+     * Validate the pojo and pass every error to a {@link ViolationSink} until the sink or the limit of the
+     * {@link ValidationOptions} stops the validation.  Collections and maps are validated on the calling thread
+     * whatever the parallel threshold, so the errors reach the sink as they are found and the sink can stop them.
+     *
+     * @param object  the object that can be validate.  All fields will be checked recursively for validation.
+     * @param options the {@link ValidationOptions}.
+     * @param sink    the {@link ViolationSink}, it can stop the validation.
+     * @return the number of errors that were passed to the sink.
+     */
+    public int validate(final Object object, final ValidationOptions options, final ViolationSink sink) {
+        notNull(options, "the passed in options are null");
+        notNull(sink, "the passed in sink is null");
+        final ValidatorRegistry registry = validatorRegistry.get();
+        final Function<Class<?>, ValidationPlan> plans = registry.getPlanLookup();
+        if (plans.apply(object.getClass()) == null) {
+            return 0;
+        }
+        final TypeDeterminer typeDeterminer = registry.getTypeDeterminer(object.getClass());
+        final ValidationTraversal validationTraversal = new ValidationTraversal(plans, object,
+                getTypeIndex((typeDeterminer != null) ? typeDeterminer.getType(object) : null), options, null, sink);
+        validationTraversal.validate();
+        return validationTraversal.getErrorCount();
+    }
+
+    /**
+     * Set the {@link Executor} of {@link #validateAsync(Object)}, for example a virtual thread per task executor on
+     * runtimes that have one.  The validations that were already submitted keep their executor.
+     *
+     * @param executor the {@link Executor}.
+     */
+    public void setAsyncExecutor(final Executor executor) {
+        setAsyncExecutor(executor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Set the {@link Executor} of {@link #validateAsync(Object)} and the number of validations that it runs at the
+     * same time.  The validations above the limit wait in a queue without blocking the caller.
+     *
+     * @param executor    the {@link Executor}.
+     * @param maxInFlight the number of validations that can run at the same time.
+     * @throws IllegalArgumentException if the number is less than one.
+     */
+    public void setAsyncExecutor(final Executor executor, final int maxInFlight) {
+        notNull(executor, "the passed in executor is null");
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException(String.format("maxInFlight has to be at least 1 but was %d",
+                    maxInFlight));
+        }
+        LOGGER.info("setAsyncExecutor executor={}, maxInFlight={}", executor, maxInFlight);
+        this.asyncValidation = new AsyncValidation(executor, maxInFlight);
+    }
+
+    /**
+     * Validate the pojo on the async {@link Executor}, the {@link ForkJoinPool#commonPool()} unless another one was
+     * set.
+     *
+     * @param object the object that can be validate.  All fields will be checked recursively for validation.
+     * @return the future {@link ValidationResponse}.  Cancelling it skips the validation if it hasn't started yet
+     * and otherwise stops it at the next field.
+     */
+    public CompletableFuture<ValidationResponse> validateAsync(final Object object) {
+        return validateAsync(object, ValidationOptions.DEFAULT);
+    }
+
+    /**
+     * Validate the pojo on the async {@link Executor} and stop once the limit of the {@link ValidationOptions} is
+     * reached.
+     *
+     * @param object  the object that can be validate.  All fields will be checked recursively for validation.
+     * @param options the {@link ValidationOptions}.
+     * @return the future {@link ValidationResponse}.  Cancelling it skips the validation if it hasn't started yet
+     * and otherwise stops it at the next field.
+     */
+    public CompletableFuture<ValidationResponse> validateAsync(final Object object, final ValidationOptions options) {
+        notNull(object, "the passed in object is null");
+        notNull(options, "the passed in options are null");
+        return asyncValidation.submit(cancellation -> {
+            final ValidatorRegistry registry = validatorRegistry.get();
+            final Function<Class<?>, ValidationPlan> plans = registry.getPlanLookup();
+            if (plans.apply(object.getClass()) == null) {
+                return ValidationResponse.VALID;
+            }
+            return validate(plans, registry.getTypeDeterminer(object.getClass()), object, options, cancellation);
+        });
+    }
+
+    /**
+     * Validate a batch of independent objects in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param objects the objects, null objects are valid.
+     * @return the {@link BatchValidationResponse} with a {@link ValidationResponse} for every invalid object.
+     */
+    public BatchValidationResponse validateAll(final List<?> objects) {
+        return validateAll(objects, ValidationOptions.DEFAULT);
+    }
+
+    /**
+     * Validate a batch of independent objects in parallel on the pool of the {@link ValidationOptions}.  The
+     * validators that are registered when the call starts are used for the whole batch.
+     *
+     * @param objects the objects, null objects are valid.
+     * @param options the {@link ValidationOptions} of every object, for example
+     *                {@link ValidationOptions#withForkJoinPool(java.util.concurrent.ForkJoinPool)}.
+     * @return the {@link BatchValidationResponse} with a {@link ValidationResponse} for every invalid object.
+     */
+    public BatchValidationResponse validateAll(final List<?> objects, final ValidationOptions options) {
+        notNull(objects, "the passed in objects are null");
+        notNull(options, "the passed in options are null");
+        final List<?> list = RandomAccess.class.isInstance(objects) ? objects : new ArrayList<>(objects);
+        return new BatchValidation(this, validatorRegistry.get(), list, options).validate();
+    }
+
+    /**
+     * Validate a batch of independent objects in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param objects the objects, null objects are valid.
+     * @return the {@link BatchValidationResponse} with a {@link ValidationResponse} for every invalid object.
+     */
+    public BatchValidationResponse validateAll(final Object[] objects) {
+        return validateAll(objects, ValidationOptions.DEFAULT);
+    }
+
+    /**
+     * Validate a batch of independent objects in parallel on the pool of the {@link ValidationOptions}.
+     *
+     * @param objects the objects, null objects are valid.
+     * @param options the {@link ValidationOptions} of every object.
+     * @return the {@link BatchValidationResponse} with a {@link ValidationResponse} for every invalid object.
+     */
+    public BatchValidationResponse validateAll(final Object[] objects, final ValidationOptions options) {
+        notNull(objects, "the passed in objects are null");
+        return validateAll(Arrays.asList(objects), options);
     }
 }
@@ -0,0 +1,309 @@
+package com.github.vincentrussell.validation;
+
+import com.github.vincentrussell.validation.plan.FieldStep;
+import com.github.vincentrussell.validation.plan.StepVisitor;
+import com.github.vincentrussell.validation.plan.ValidationPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * The state of one call to {@link ValidationService#validate(Object)}.  Walks the object graph and runs the
+ * {@link ValidationPlan} of every object that it finds.  The errors end up in the {@link ValidationResponse} or are
+ * passed to the {@link ViolationSink} of the call without being kept.
+ * Without a sink, collections and maps that are larger than the parallel threshold of the {@link ValidationOptions}
+ * are split into {@link RecursiveTask}s, every task collects its errors in its own traversal and the errors are
+ * merged in the order of the elements.  Every task stops at the errors that were still allowed when the collection
+ * was split and the merged errors are trimmed to the limit, so the errors are the same as those of a sequential
+ * traversal.
+ */
+final class ValidationTraversal implements StepVisitor {
+
+    private static Logger LOGGER = LoggerFactory.getLogger(ValidationTraversal.class);
+
+    private final Function<Class<?>, ValidationPlan> plans;
+    private final Object mainObject;
+    private final int typeIndex;
+    private final ValidationOptions options;
+    private final int maxErrors;
+    private final int parallelThreshold;
+    //stops the traversal once it is cancelled, null if the call can't be cancelled
+    private final Future<?> cancellation;
+    //receives the errors instead of the response, null if they are collected
+    private final ViolationSink sink;
+    private boolean stopped;
+    private ValidationResponse validationResponse;
+    //the path of the object that is being validated, null for the main object
+    private FieldPath path;
+    private int errorCount;
+
+    /**
+     * Default constructor.
+     *
+     * @param plans        finds the plan for a class or returns null if the class is not validated.
+     * @param mainObject   the object that was passed to the {@link ValidationService}.
+     * @param typeIndex    the index of the determined type of the main object.
+     * @param options      the {@link ValidationOptions} of the call.
+     * @param cancellation the traversal stops once this future is cancelled, null if the call can't be cancelled.
+     * @param sink         receives the errors instead of the {@link ValidationResponse}, null to collect them.
+     */
+    ValidationTraversal(final Function<Class<?>, ValidationPlan> plans, final Object mainObject, final int typeIndex,
+                        final ValidationOptions options, final Future<?> cancellation, final ViolationSink sink) {
+        this.plans = plans;
+        this.mainObject = mainObject;
+        this.typeIndex = typeIndex;
+        this.options = options;
+        this.maxErrors = options.getMaxErrors();
+        //splits would have to keep their errors until they are merged, so a sink gets them sequentially
+        this.parallelThreshold = sink != null ? Integer.MAX_VALUE : options.getParallelThreshold();
+        this.cancellation = cancellation;
+        this.sink = sink;
+    }
+
+    private ValidationTraversal(final ValidationTraversal parent) {
+        this.plans = parent.plans;
+        this.mainObject = parent.mainObject;
+        this.typeIndex = parent.typeIndex;
+        this.options = parent.options;
+        //the parent waits for its splits, so the errors that it still allows don't change until they are done
+        this.maxErrors = parent.maxErrors - parent.errorCount;
+        this.parallelThreshold = parent.parallelThreshold;
+        this.cancellation = parent.cancellation;
+        this.sink = null;
+        this.path = parent.path;
+    }
+
+    /**
+     * Validate the main object.
+     *
+     * @return the {@link ValidationResponse} with the errors that were found before the limit was reached or
+     * {@link ValidationResponse#VALID} if there are none or they were passed to the sink.
+     */
+    ValidationResponse validate() {
+        validate(mainObject, mainObject.getClass());
+        return validationResponse != null ? validationResponse : ValidationResponse.VALID;
+    }
+
+    private void validate(final Object object, final Class<?> type) {
+        if (Collection.class.isInstance(object) && ((Collection) object).size() > parallelThreshold) {
+            validateInParallel(toList((Collection<?>) object), false);
+            return;
+        } else if (Iterable.class.isInstance(object)) {
+            validateIterable((Iterable) object);
+            return;
+        } else if (Map.class.isInstance(object) && ((Map) object).size() > parallelThreshold) {
+            validateInParallel(new ArrayList<>(((Map<?, ?>) object).entrySet()), true);
+            return;
+        } else if (Map.class.isInstance(object)) {
+            validateMap((Map) object);
+            return;
+        }
+        final ValidationPlan validationPlan = plans.apply(type);
+        if (validationPlan != null) {
+            validationPlan.execute(mainObject, object, typeIndex, this);
+        }
+    }
+
+    private void validateIterable(final Iterable<Object> object) {
+        for (Object obj : object) {
+            if (isDone()) {
+                return;
+            }
+            validateElement(obj);
+        }
+    }
+
+    private void validateMap(final Map object) {
+        for (Object entry : object.entrySet()) {
+            if (isDone()) {
+                return;
+            }
+            validateEntry(entry);
+        }
+    }
+
+    private void validateElement(final Object element) {
+        if (element != null) {
+            validate(element, element.getClass());
+        }
+    }
+
+    private void validateEntry(final Object entry) {
+        if (Map.Entry.class.isInstance(entry)) {
+            Map.Entry thisEntry = (Map.Entry) entry;
+            validateElement(thisEntry.getKey());
+            if (!isDone()) {
+                validateElement(thisEntry.getValue());
+            }
+        }
+    }
+
+    private static List<?> toList(final Collection<?> collection) {
+        if (List.class.isInstance(collection) && RandomAccess.class.isInstance(collection)) {
+            return (List<?>) collection;
+        }
+        return Arrays.asList(collection.toArray());
+    }
+
+    private void validateInParallel(final List<?> elements, final boolean entries) {
+        final ElementsTask task = new ElementsTask(this, elements, entries, 0, elements.size(),
+                new AtomicInteger(elements.size()));
+        final ForkJoinPool pool = options.getForkJoinPool();
+        final List<ValidationError> errors = ForkJoinTask.getPool() == pool ? task.invoke() : pool.invoke(task);
+        for (ValidationError validationError : errors) {
+            if (errorCount >= maxErrors || stopped) {
+                return;
+            }
+            addError(validationError);
+        }
+    }
+
+    private List<ValidationError> getErrors() {
+        return validationResponse != null ? validationResponse.getValidationErrors() : Collections.emptyList();
+    }
+
+    @Override
+    public void visitNested(final FieldStep fieldStep, final Object value) {
+        final FieldPath parent = path;
+        path = getPath(fieldStep);
+        try {
+            validate(value, fieldStep.getField().getType());
+        } catch (RuntimeException e) {
+            LOGGER.error(String.format("error validating field=%s, value=%s", fieldStep, value), e.getMessage());
+            addError(new ValidationError(path, value, e));
+        } finally {
+            path = parent;
+        }
+    }
+
+    @Override
+    public void visitError(final FieldStep fieldStep, final Object value, final ValidationError validationError) {
+        if (isDone()) {
+            return;
+        }
+        final MessageTemplate errorMessageTemplate = fieldStep.getErrorMessageTemplate();
+        if (errorMessageTemplate != null) {
+            validationError.setErrorMessage(errorMessageTemplate);
+        }
+        validationError.setValue(value);
+        validationError.setField(getPath(fieldStep));
+        addError(validationError);
+    }
+
+    @Override
+    public void visitFailure(final FieldStep fieldStep, final Validator validator, final Object value,
+                             final Throwable throwable) {
+        if (isDone()) {
+            return;
+        }
+        LOGGER.error(String.format("error validating field=%s, validator=%s, value=%s", fieldStep,
+                validator, value), throwable.getMessage());
+        ValidationError validationError = new ValidationError(getPath(fieldStep), value, throwable);
+        addError(validationError);
+    }
+
+    private FieldPath getPath(final FieldStep fieldStep) {
+        return path != null ? path.child(fieldStep.getPath()) : FieldPath.of(fieldStep.getPath());
+    }
+
+    /**
+     * Get the number of errors that were found.
+     *
+     * @return the number of errors.
+     */
+    int getErrorCount() {
+        return errorCount;
+    }
+
+    @Override
+    public boolean isDone() {
+        return stopped || errorCount >= maxErrors || (cancellation != null && cancellation.isCancelled());
+    }
+
+    private void addError(final ValidationError validationError) {
+        errorCount++;
+        if (sink != null) {
+            stopped = !sink.accept(validationError);
+            return;
+        }
+        if (validationResponse == null) {
+            validationResponse = new ValidationResponse();
+        }
+        validationResponse.addError(validationError);
+    }
+
+    /**
+     * Validates a range of the elements or entries of a collection or map.  A range that is larger than the threshold
+     * is split in half, the errors of the first half come first.  A range that reaches the limit on its own lowers
+     * the cutoff to the element after the one that reached it, the errors after the cutoff are trimmed anyway so the
+     * ranges after it stop as well.
+     */
+    private static final class ElementsTask extends RecursiveTask<List<ValidationError>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ValidationTraversal parent;
+        private final List<?> elements;
+        private final boolean entries;
+        private final int from;
+        private final int to;
+        //the elements from this index on can't add an error before the limit, shared by every range of the split
+        private final AtomicInteger cutoff;
+
+        ElementsTask(final ValidationTraversal parent, final List<?> elements, final boolean entries, final int from,
+                     final int to, final AtomicInteger cutoff) {
+            this.parent = parent;
+            this.elements = elements;
+            this.entries = entries;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected List<ValidationError> compute() {
+            if (to - from > parent.parallelThreshold) {
+                final int middle = (from + to) >>> 1;
+                final ElementsTask first = new ElementsTask(parent, elements, entries, from, middle, cutoff);
+                final ElementsTask second = new ElementsTask(parent, elements, entries, middle, to, cutoff);
+                second.fork();
+                final List<ValidationError> firstErrors = first.compute();
+                final List<ValidationError> secondErrors = second.join();
+                if (firstErrors.isEmpty()) {
+                    return secondErrors;
+                } else if (secondErrors.isEmpty()) {
+                    return firstErrors;
+                }
+                final List<ValidationError> errors = new ArrayList<>(firstErrors.size() + secondErrors.size());
+                errors.addAll(firstErrors);
+                errors.addAll(secondErrors);
+                return errors;
+            }
+            final ValidationTraversal traversal = new ValidationTraversal(parent);
+            for (int i = from; i < to && i < cutoff.get() && !traversal.isDone(); i++) {
+                if (entries) {
+                    traversal.validateEntry(elements.get(i));
+                } else {
+                    traversal.validateElement(elements.get(i));
+                }
+                if (traversal.errorCount >= traversal.maxErrors) {
+                    cutoff.accumulateAndGet(i + 1, Math::min);
+                }
+            }
+            return traversal.getErrors();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.vincentrussell.validation;
+
+import com.github.vincentrussell.validation.plan.ValidationPlan;
+import com.github.vincentrussell.validation.type.TypeDeterminer;
+import com.github.vincentrussell.validation.util.ClassScopedMap;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The validators, type determiners and plans that a validation runs with.  A registry is never changed, the
+ * {@link ValidationService} publishes a new one when a validator, a type determiner or a class is added.  A
+ * validation reads the registry once when it starts and keeps using it, so it doesn't see changes that are made while
+ * it is running.
+ */
+final class ValidatorRegistry {
+
+    /**
+     * The registry without validators, type determiners and plans.
+     */
+    static final ValidatorRegistry EMPTY = new ValidatorRegistry(Collections.emptyMap(), Collections.emptyMap(),
+            Collections.emptyMap(), null);
+
+    private final Map<String, Validator> validators;
+    private final Map<Class, TypeDeterminer> typeDeterminers;
+    private final Map<Class, ValidationPlan> validationPlans;
+    private final ClassValue<ValidationPlan> onDemandValidationPlans;
+    private final Function<Class<?>, ValidationPlan> planLookup;
+
+    private ValidatorRegistry(final Map<String, Validator> validators,
+                              final Map<Class, TypeDeterminer> typeDeterminers,
+                              final Map<Class, ValidationPlan> validationPlans,
+                              final ClassValue<ValidationPlan> onDemandValidationPlans) {
+        this.validators = validators;
+        this.typeDeterminers = typeDeterminers;
+        this.validationPlans = validationPlans;
+        this.onDemandValidationPlans = onDemandValidationPlans;
+        this.planLookup = onDemandValidationPlans != null ? onDemandValidationPlans::get : validationPlans::get;
+    }
+
+    /**
+     * Create a registry with more validators.
+     *
+     * @param addedValidators the validators by name, they replace validators with the same name.
+     * @return the new {@link ValidatorRegistry}.
+     */
+    ValidatorRegistry withValidators(final Map<? extends String, ? extends Validator> addedValidators) {
+        final Map<String, Validator> copy = new HashMap<>(validators);
+        copy.putAll(addedValidators);
+        return new ValidatorRegistry(Collections.unmodifiableMap(copy), typeDeterminers, validationPlans,
+                onDemandValidationPlans);
+    }
+
+    /**
+     * Create a registry with more type determiners.
+     *
+     * @param addedTypeDeterminers the type determiners by class, they replace the type determiners of the same class.
+     * @return the new {@link ValidatorRegistry}.
+     */
+    ValidatorRegistry withTypeDeterminers(final Map<? extends Class, ? extends TypeDeterminer> addedTypeDeterminers) {
+        final Map<Class, TypeDeterminer> copy = ClassScopedMap.forClasses();
+        copy.putAll(typeDeterminers);
+        copy.putAll(addedTypeDeterminers);
+        return new ValidatorRegistry(validators, Collections.unmodifiableMap(copy), validationPlans,
+                onDemandValidationPlans);
+    }
+
+    /**
+     * Create a registry with other plans.
+     *
+     * @param plans the plans by class, they are not changed afterwards.
+     * @return the new {@link ValidatorRegistry}.
+     */
+    ValidatorRegistry withValidationPlans(final Map<Class, ValidationPlan> plans) {
+        return new ValidatorRegistry(validators, typeDeterminers, Collections.unmodifiableMap(plans), null);
+    }
+
+    /**
+     * Create a registry that compiles the plans when a class is validated for the first time.
+     *
+     * @param plans the plans.
+     * @return the new {@link ValidatorRegistry}.
+     */
+    ValidatorRegistry withOnDemandValidationPlans(final ClassValue<ValidationPlan> plans) {
+        return new ValidatorRegistry(validators, typeDeterminers, Collections.emptyMap(), plans);
+    }
+
+    /**
+     * Get the validators.
+     *
+     * @return the validators by name.
+     */
+    Map<String, Validator> getValidators() {
+        return validators;
+    }
+
+    /**
+     * Get the type determiner of a class.
+     *
+     * @param type the class.
+     * @return the {@link TypeDeterminer} or null if the class doesn't have one.
+     */
+    TypeDeterminer getTypeDeterminer(final Class<?> type) {
+        return typeDeterminers.get(type);
+    }
+
+    /**
+     * Get the plans that were compiled when the registry was created.
+     *
+     * @return the plans by class, empty if the plans are compiled on demand.
+     */
+    Map<Class, ValidationPlan> getValidationPlans() {
+        return validationPlans;
+    }
+
+    /**
+     * Get the function that finds the plan of a class.
+     *
+     * @return the function, it returns null for a class that is not validated.
+     */
+    Function<Class<?>, ValidationPlan> getPlanLookup() {
+        return planLookup;
+    }
+}
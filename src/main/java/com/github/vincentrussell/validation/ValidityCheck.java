@@ -0,0 +1,128 @@
+package com.github.vincentrussell.validation;
+
+import com.github.vincentrussell.validation.plan.FieldStep;
+import com.github.vincentrussell.validation.plan.StepVisitor;
+import com.github.vincentrussell.validation.plan.ValidationPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * The state of one call to {@link ValidationService#isValid(Object)}.  Walks the object graph like the
+ * {@link ValidationTraversal} but only remembers whether a validator failed, so no paths, errors or messages are
+ * built.  A check is reused by the thread that owns it, so a valid object doesn't allocate anything.  Lists that
+ * implement {@link RandomAccess} are walked by index, other collections and maps allocate their iterator.
+ */
+final class ValidityCheck implements StepVisitor {
+
+    private static Logger LOGGER = LoggerFactory.getLogger(ValidityCheck.class);
+
+    private Function<Class<?>, ValidationPlan> plans;
+    private Object mainObject;
+    private int typeIndex;
+    private boolean invalid;
+    private boolean running;
+
+    /**
+     * Check the main object.
+     *
+     * @param planLookup          finds the plan for a class or returns null if the class is not validated.
+     * @param object              the object that was passed to the {@link ValidationService}.
+     * @param determinedTypeIndex the index of the determined type of the main object.
+     * @return true if no validator failed.
+     */
+    boolean isValid(final Function<Class<?>, ValidationPlan> planLookup, final Object object,
+                    final int determinedTypeIndex) {
+        this.plans = planLookup;
+        this.mainObject = object;
+        this.typeIndex = determinedTypeIndex;
+        this.invalid = false;
+        this.running = true;
+        try {
+            validate(object, object.getClass());
+            return !invalid;
+        } finally {
+            this.plans = null;
+            this.mainObject = null;
+            this.running = false;
+        }
+    }
+
+    /**
+     * Whether this check is in use, for example because a validator checks another object on the same thread.
+     *
+     * @return true if it is in use.
+     */
+    boolean isRunning() {
+        return running;
+    }
+
+    private void validate(final Object object, final Class<?> type) {
+        if (List.class.isInstance(object) && RandomAccess.class.isInstance(object)) {
+            final List<?> list = (List<?>) object;
+            for (int i = 0; i < list.size() && !invalid; i++) {
+                validateElement(list.get(i));
+            }
+        } else if (Iterable.class.isInstance(object)) {
+            for (Object element : (Iterable<?>) object) {
+                if (invalid) {
+                    return;
+                }
+                validateElement(element);
+            }
+        } else if (Map.class.isInstance(object)) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                if (invalid) {
+                    return;
+                }
+                validateElement(entry.getKey());
+                validateElement(entry.getValue());
+            }
+        } else {
+            final ValidationPlan validationPlan = plans.apply(type);
+            if (validationPlan != null) {
+                validationPlan.execute(mainObject, object, typeIndex, this);
+            }
+        }
+    }
+
+    private void validateElement(final Object element) {
+        if (element != null && !invalid) {
+            validate(element, element.getClass());
+        }
+    }
+
+    @Override
+    public void visitNested(final FieldStep fieldStep, final Object value) {
+        try {
+            validate(value, fieldStep.getField().getType());
+        } catch (RuntimeException e) {
+            LOGGER.debug("error validating field={}", fieldStep, e);
+            invalid = true;
+        }
+    }
+
+    @Override
+    public void visitError(final FieldStep fieldStep, final Object value, final ValidationError validationError) {
+        invalid = true;
+    }
+
+    @Override
+    public void visitFailure(final FieldStep fieldStep, final Validator validator, final Object value,
+                             final Throwable throwable) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(String.format("error validating field=%s, validator=%s, value=%s", fieldStep,
+                    validator, value), throwable);
+        }
+        invalid = true;
+    }
+
+    @Override
+    public boolean isDone() {
+        return invalid;
+    }
+}
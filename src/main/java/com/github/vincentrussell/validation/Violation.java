@@ -0,0 +1,126 @@
+package com.github.vincentrussell.validation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A failed constraint without an exception.  It keeps the id of the constraint and a template with its arguments,
+ * the message is only rendered when it is asked for.  The template is either a {@link MessageTemplate} with named
+ * parameters or a {@link String#format(String, Object...)} template with positional arguments.
+ */
+public final class Violation {
+
+    /**
+     * The parameter of a {@link MessageTemplate} for the value that failed.
+     */
+    public static final String VALUE_PARAMETER = "value";
+
+    private final String constraintId;
+    private final String messageTemplate;
+    private final Object[] arguments;
+    private final MessageTemplate template;
+    private final Object value;
+    private final Map<String, ?> parameters;
+
+    /**
+     * Create a violation with a {@link String#format(String, Object...)} template.
+     *
+     * @param constraintId    the id of the constraint, for example the name of the validator annotation, or null.
+     * @param messageTemplate the {@link String#format(String, Object...)} template of the message.
+     * @param arguments       the arguments of the template.
+     */
+    public Violation(final String constraintId, final String messageTemplate, final Object... arguments) {
+        this.constraintId = constraintId;
+        this.messageTemplate = messageTemplate;
+        this.arguments = arguments;
+        this.template = null;
+        this.value = null;
+        this.parameters = Collections.emptyMap();
+    }
+
+    /**
+     * Create a violation with a {@link MessageTemplate}.  The parameters are usually created once by the validator, so
+     * nothing has to be boxed when a constraint fails.
+     *
+     * @param constraintId the id of the constraint, for example the name of the validator annotation, or null.
+     * @param template     the {@link MessageTemplate} of the message.
+     * @param value        the value that failed, it is the argument of the {@link #VALUE_PARAMETER}.
+     * @param parameters   the other arguments of the template by name, for example the maximum of the validator.
+     */
+    public Violation(final String constraintId, final MessageTemplate template, final Object value,
+                     final Map<String, ?> parameters) {
+        this.constraintId = constraintId;
+        this.messageTemplate = template.toString();
+        this.arguments = new Object[0];
+        this.template = template;
+        this.value = value;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Get the id of the constraint that failed.
+     *
+     * @return the id or null if it is not known.
+     */
+    public String getConstraintId() {
+        return constraintId;
+    }
+
+    /**
+     * Get the template of the message.
+     *
+     * @return the template.
+     */
+    public String getMessageTemplate() {
+        return messageTemplate;
+    }
+
+    /**
+     * Get the positional arguments of a {@link String#format(String, Object...)} template.
+     *
+     * @return a copy of the arguments, empty for a {@link MessageTemplate}.
+     */
+    public Object[] getArguments() {
+        return arguments.clone();
+    }
+
+    /**
+     * Get the named arguments of a {@link MessageTemplate}, not including the value.
+     *
+     * @return the arguments by parameter name.
+     */
+    public Map<String, ?> getParameters() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    /**
+     * Get the value that failed.
+     *
+     * @return the value or null if the violation has a {@link String#format(String, Object...)} template.
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Render the message.
+     *
+     * @return the message.
+     */
+    public String getMessage() {
+        if (template == null) {
+            return String.format(messageTemplate, arguments);
+        }
+        final Map<String, Object> templateArguments = new HashMap<>(parameters);
+        templateArguments.put(VALUE_PARAMETER, value);
+        return template.render(templateArguments);
+    }
+
+    @Override
+    public String toString() {
+        return "Violation{constraintId=" + constraintId + ", messageTemplate=" + messageTemplate
+                + ", arguments=" + (template == null ? Arrays.toString(arguments) : parameters) + '}';
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.vincentrussell.validation;
+
+/**
+ * The exception that {@link ValidationError#getThrowable()} returns for a {@link Violation}.  It is only created when
+ * it is asked for and has no stack trace, the violation wasn't thrown from anywhere.
+ */
+final class ViolationException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default constructor.
+     *
+     * @param violation the {@link Violation}.
+     */
+    ViolationException(final Violation violation) {
+        super(violation.getMessage());
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
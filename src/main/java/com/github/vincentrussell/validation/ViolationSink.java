@@ -0,0 +1,19 @@
+package com.github.vincentrussell.validation;
+
+/**
+ * Receives the errors of {@link ValidationService#validate(Object, ViolationSink)} as the traversal finds them,
+ * instead of collecting them in a {@link ValidationResponse}.  The path, the message and the exception of a
+ * {@link ValidationError} are only built when they are read, so a sink that only counts errors doesn't build them.
+ */
+public interface ViolationSink {
+
+    /**
+     * Receive an error.  The traversal doesn't keep a reference to it.
+     *
+     * @param validationError the {@link ValidationError} with the path, the value, the {@link Violation} and the
+     *                        message.
+     * @return true to continue or false to stop the traversal, the remaining fields, elements and entries are not
+     * visited.
+     */
+    boolean accept(ValidationError validationError);
+}
@@ -15,7 +15,7 @@ public @interface PathAlias {
 
     /**
      * with alias the field that is used when
-     * {@link com.github.vincentrussell.validation.ValidationError#setField(java.util.Stack)} is called.
+     * {@link com.github.vincentrussell.validation.ValidationError#getField()} is called.
      * The patch stack will default to the name of the field.  This will replace that.
      *
      * @return nothing.
@@ -120,13 +120,44 @@ public final class ValidatorInterpreter {
     }
 
 
+    /**
+     * Get the class of the validator.
+     *
+     * @return the class that was in {@link Validator#validatedBy()}.
+     */
+    public Class<com.github.vincentrussell.validation.Validator> getValidatorClass() {
+        return validatorClass;
+    }
+
+    /**
+     * Get the values from the annotation that are passed to the constructor of the validator.
+     *
+     * @return the constructor parameters.  Empty if the validator only has a default constructor.
+     */
+    public Object[] getParameterValues() {
+        return parameterValueMap.values().toArray(new Object[0]);
+    }
+
     /**
      * instantiate this validator, even if it doesn't have a default constructor.
      *
      * @return the {@link com.github.vincentrussell.validation.Validator}
      */
     public com.github.vincentrussell.validation.Validator instantiate() {
-        if (isOnlyDefaultConstructor) {
+        return instantiate(validatorClass, getParameterValues());
+    }
+
+    /**
+     * instantiate a validator with the values for its constructor.
+     *
+     * @param validatorClass  the class of the validator.
+     * @param parameterValues the values for the constructor or an empty array for the default constructor.
+     * @return the {@link com.github.vincentrussell.validation.Validator}
+     */
+    public static com.github.vincentrussell.validation.Validator instantiate(
+            final Class<? extends com.github.vincentrussell.validation.Validator> validatorClass,
+            final Object[] parameterValues) {
+        if (parameterValues.length == 0) {
             try {
                 return validatorClass.newInstance();
             } catch (InstantiationException | IllegalAccessException e) {
@@ -136,7 +167,7 @@ public final class ValidatorInterpreter {
         } else {
             try {
                 return (com.github.vincentrussell.validation.Validator) validatorClass.getConstructors()[0]
-                        .newInstance(parameterValueMap.values().toArray(new Object[0]));
+                        .newInstance(parameterValues);
             } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
                 LOGGER.error(e.getMessage(), e);
                 throw new IllegalArgumentException(e.getMessage(), e);
@@ -3,6 +3,7 @@ package com.github.vincentrussell.validation.defaultValidators;
 import com.github.vincentrussell.validation.ValidationError;
 import com.github.vincentrussell.validation.Validator;
 import com.github.vincentrussell.validation.annotation.ConstructorParam;
+import com.github.vincentrussell.validation.annotation.After;
 import com.github.vincentrussell.validation.util.ValidationUtils;
 
 import java.time.ZonedDateTime;
@@ -10,6 +11,8 @@ import java.time.format.DateTimeFormatter;
 
 public final class AfterValidator implements Validator {
 
+    private static final String CONSTRAINT_ID = After.class.getName();
+
     private final ZonedDateTime dateTime;
 
     /**
@@ -24,7 +27,7 @@ public final class AfterValidator implements Validator {
 
     @Override
     public ValidationError validate(final Object object) {
-        return ValidationUtils.isDateAfter(object, dateTime);
+        return ValidationUtils.isDateAfter(object, dateTime, CONSTRAINT_ID);
     }
 
 }
@@ -3,6 +3,7 @@ package com.github.vincentrussell.validation.defaultValidators;
 import com.github.vincentrussell.validation.ValidationError;
 import com.github.vincentrussell.validation.Validator;
 import com.github.vincentrussell.validation.annotation.ConstructorParam;
+import com.github.vincentrussell.validation.annotation.Before;
 import com.github.vincentrussell.validation.util.ValidationUtils;
 
 import java.time.ZonedDateTime;
@@ -10,6 +11,8 @@ import java.time.format.DateTimeFormatter;
 
 public final class BeforeValidator implements Validator {
 
+    private static final String CONSTRAINT_ID = Before.class.getName();
+
     private final ZonedDateTime dateTime;
 
     /**
@@ -24,7 +27,7 @@ public final class BeforeValidator implements Validator {
 
     @Override
     public ValidationError validate(final Object object) {
-        return ValidationUtils.isDateBefore(object, dateTime);
+        return ValidationUtils.isDateBefore(object, dateTime, CONSTRAINT_ID);
     }
 }
 
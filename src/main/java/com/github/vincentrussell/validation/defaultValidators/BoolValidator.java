@@ -1,17 +1,27 @@
 package com.github.vincentrussell.validation.defaultValidators;
 
 
+import com.github.vincentrussell.validation.MessageTemplate;
 import com.github.vincentrussell.validation.ValidationError;
 import com.github.vincentrussell.validation.Validator;
 import com.github.vincentrussell.validation.annotation.ConstructorParam;
+import com.github.vincentrussell.validation.annotation.Bool;
 import com.github.vincentrussell.validation.util.ValidationUtils;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Default Boolean {@link com.github.vincentrussell.validation.annotation.Validator}.
  */
 public final class BoolValidator implements Validator {
 
+    private static final String CONSTRAINT_ID = Bool.class.getName();
+    private static final MessageTemplate MESSAGE = MessageTemplate.parse(
+            "value {value} doesn't match the boolean {bool}");
+
     private final Boolean bool;
+    private final Map<String, Object> parameters;
 
     /**
      * Default constructor.
@@ -19,13 +29,13 @@ public final class BoolValidator implements Validator {
      */
     public BoolValidator(@ConstructorParam("value") final Boolean bool) {
         this.bool = bool;
+        this.parameters = Collections.singletonMap("bool", bool);
     }
 
     @Override
     public ValidationError validate(final Object object) {
-        if (object != null && Boolean.class.isInstance(object)) {
-            return ValidationUtils.isTrue(bool.equals(object),
-                    "value %s doesn't match the boolean %s", object, bool);
+        if (object != null && Boolean.class.isInstance(object) && !bool.equals(object)) {
+            return ValidationUtils.violation(CONSTRAINT_ID, MESSAGE, object, parameters);
         }
         return null;
     }
@@ -1,11 +1,15 @@
 package com.github.vincentrussell.validation.defaultValidators;
 
+import com.github.vincentrussell.validation.MessageTemplate;
 import com.github.vincentrussell.validation.ValidationError;
 import com.github.vincentrussell.validation.Validator;
 import com.github.vincentrussell.validation.annotation.ConstructorParam;
+import com.github.vincentrussell.validation.annotation.DecimalMax;
 import com.github.vincentrussell.validation.util.ValidationUtils;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * The {@link Validator} that enforces that a number whose value must be lower or equal to the specified maximum.
@@ -19,7 +23,11 @@ import java.math.BigDecimal;
  */
 public final class DecimalMaxValidator implements Validator {
 
+    private static final String CONSTRAINT_ID = DecimalMax.class.getName();
+    private static final MessageTemplate MESSAGE = MessageTemplate.parse("value {value} is more than {max}");
+
     private final BigDecimal max;
+    private final Map<String, Object> parameters;
 
     /**
      * Default constructor.
@@ -28,13 +36,13 @@ public final class DecimalMaxValidator implements Validator {
      */
     public DecimalMaxValidator(@ConstructorParam("max") final String max) {
         this.max = new BigDecimal(max);
+        this.parameters = Collections.singletonMap("max", this.max);
     }
 
     @Override
     public ValidationError validate(final Object object) {
-        if (Number.class.isInstance(object)) {
-            return ValidationUtils.isTrue(ValidationUtils.bigDecimalCompareTo((Number) object, max) <= 0,
-                    "value %s is more than %s", object, max);
+        if (Number.class.isInstance(object) && ValidationUtils.bigDecimalCompareTo((Number) object, max) > 0) {
+            return ValidationUtils.violation(CONSTRAINT_ID, MESSAGE, object, parameters);
         }
         return null;
     }
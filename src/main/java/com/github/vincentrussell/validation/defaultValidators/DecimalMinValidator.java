@@ -1,11 +1,15 @@
 package com.github.vincentrussell.validation.defaultValidators;
 
+import com.github.vincentrussell.validation.MessageTemplate;
 import com.github.vincentrussell.validation.ValidationError;
 import com.github.vincentrussell.validation.Validator;
 import com.github.vincentrussell.validation.annotation.ConstructorParam;
+import com.github.vincentrussell.validation.annotation.DecimalMin;
 import com.github.vincentrussell.validation.util.ValidationUtils;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * The {@link Validator} that enforces that a number whose value must be higher or equal to the specified minimum.
@@ -19,7 +23,11 @@ import java.math.BigDecimal;
  */
 public final class DecimalMinValidator implements Validator {
 
+    private static final String CONSTRAINT_ID = DecimalMin.class.getName();
+    private static final MessageTemplate MESSAGE = MessageTemplate.parse("value {value} is less than {min}");
+
     private final BigDecimal min;
+    private final Map<String, Object> parameters;
 
     /**
      * Default constructor.
@@ -28,13 +36,13 @@ public final class DecimalMinValidator implements Validator {
      */
     public DecimalMinValidator(@ConstructorParam("min") final String min) {
         this.min = new BigDecimal(min);
+        this.parameters = Collections.singletonMap("min", this.min);
     }
 
     @Override
     public ValidationError validate(final Object object) {
-        if (Number.class.isInstance(object)) {
-            return ValidationUtils.isTrue(ValidationUtils.bigDecimalCompareTo((Number) object, min) >= 0,
-                    "value %s is less than %s", object, min);
+        if (Number.class.isInstance(object) && ValidationUtils.bigDecimalCompareTo((Number) object, min) < 0) {
+            return ValidationUtils.violation(CONSTRAINT_ID, MESSAGE, object, parameters);
         }
        return null;
     }
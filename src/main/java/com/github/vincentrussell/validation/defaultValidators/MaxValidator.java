@@ -1,12 +1,17 @@
 package com.github.vincentrussell.validation.defaultValidators;
 
+import com.github.vincentrussell.validation.LongValidator;
+import com.github.vincentrussell.validation.MessageTemplate;
 import com.github.vincentrussell.validation.ValidationError;
-import com.github.vincentrussell.validation.Validator;
 import com.github.vincentrussell.validation.annotation.ConstructorParam;
+import com.github.vincentrussell.validation.annotation.Max;
 import com.github.vincentrussell.validation.util.ValidationUtils;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
- * The {@link Validator} that enforces that a number whose value must be lower or equal to the specified maximum.
+ * The {@link LongValidator} that enforces that a number whose value must be lower or equal to the specified maximum.
  *
  * Supported types are:
  * <ul>
@@ -15,9 +20,13 @@ import com.github.vincentrussell.validation.util.ValidationUtils;
  * <li>byte, double, float, int, long, short and their respective wrappers or any subclass of Number</li>
  * </ul>
  */
-public final class MaxValidator implements Validator {
+public final class MaxValidator implements LongValidator {
+
+    private static final String CONSTRAINT_ID = Max.class.getName();
+    private static final MessageTemplate MESSAGE = MessageTemplate.parse("value {value} is more than {max}");
 
     private final long max;
+    private final Map<String, Object> parameters;
 
     /**
      * Default constructor.
@@ -26,17 +35,22 @@ public final class MaxValidator implements Validator {
      */
     public MaxValidator(@ConstructorParam("max") final long max) {
         this.max = max;
+        this.parameters = Collections.singletonMap("max", max);
     }
 
     @Override
     public ValidationError validate(final Object object) {
-        if (Number.class.isInstance(object)) {
-            long value = ((Number) object).longValue();
-            return ValidationUtils.isTrue(value <= max,
-                    "value %s is more than %s", object, max);
+        if (Number.class.isInstance(object) && ((Number) object).longValue() > max) {
+            return ValidationUtils.violation(CONSTRAINT_ID, MESSAGE, object, parameters);
         }
         return null;
     }
 
-
+    @Override
+    public ValidationError validateLong(final long value) {
+        if (value <= max) {
+            return null;
+        }
+        return ValidationUtils.violation(CONSTRAINT_ID, MESSAGE, value, parameters);
+    }
 }
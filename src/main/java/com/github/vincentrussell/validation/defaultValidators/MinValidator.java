@@ -1,12 +1,17 @@
 package com.github.vincentrussell.validation.defaultValidators;
 
+import com.github.vincentrussell.validation.LongValidator;
+import com.github.vincentrussell.validation.MessageTemplate;
 import com.github.vincentrussell.validation.ValidationError;
-import com.github.vincentrussell.validation.Validator;
 import com.github.vincentrussell.validation.annotation.ConstructorParam;
+import com.github.vincentrussell.validation.annotation.Min;
 import com.github.vincentrussell.validation.util.ValidationUtils;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
- * The {@link Validator} that enforces that a number whose value must be higher or equal to the specified minimum.
+ * The {@link LongValidator} that enforces that a number whose value must be higher or equal to the specified minimum.
  *
  * Supported types are:
  * <ul>
@@ -15,9 +20,13 @@ import com.github.vincentrussell.validation.util.ValidationUtils;
  * <li>byte, double, float, int, long, short and their respective wrappers or any subclass of Number</li>
  * </ul>
  */
-public final class MinValidator implements Validator {
+public final class MinValidator implements LongValidator {
+
+    private static final String CONSTRAINT_ID = Min.class.getName();
+    private static final MessageTemplate MESSAGE = MessageTemplate.parse("value {value} is less than {min}");
 
     private final long min;
+    private final Map<String, Object> parameters;
 
     /**
      * Default constructor.
@@ -26,17 +35,22 @@ public final class MinValidator implements Validator {
      */
     public MinValidator(@ConstructorParam("min") final long min) {
         this.min = min;
+        this.parameters = Collections.singletonMap("min", min);
     }
 
     @Override
     public ValidationError validate(final Object object) {
-        if (Number.class.isInstance(object)) {
-            long value = ((Number) object).longValue();
-            return ValidationUtils.isTrue(value >= min,
-                    "value %s is less than %s", object, min);
+        if (Number.class.isInstance(object) && ((Number) object).longValue() < min) {
+            return ValidationUtils.violation(CONSTRAINT_ID, MESSAGE, object, parameters);
         }
         return null;
     }
 
-
+    @Override
+    public ValidationError validateLong(final long value) {
+        if (value >= min) {
+            return null;
+        }
+        return ValidationUtils.violation(CONSTRAINT_ID, MESSAGE, value, parameters);
+    }
 }
@@ -1,12 +1,15 @@
 package com.github.vincentrussell.validation.defaultValidators;
 
 
+import com.github.vincentrussell.validation.MessageTemplate;
 import com.github.vincentrussell.validation.ValidationError;
 import com.github.vincentrussell.validation.Validator;
+import com.github.vincentrussell.validation.annotation.NotEmpty;
 import com.github.vincentrussell.validation.util.ValidationUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -20,26 +23,27 @@ import java.util.Map;
  */
 public final class NotEmptyValidator implements Validator {
 
+    private static final String CONSTRAINT_ID = NotEmpty.class.getName();
+    private static final MessageTemplate STRING_MESSAGE = MessageTemplate.parse("string is empty");
+    private static final MessageTemplate COLLECTION_MESSAGE = MessageTemplate.parse("collection is empty");
+    private static final MessageTemplate MAP_MESSAGE = MessageTemplate.parse("map is empty");
+    private static final MessageTemplate ARRAY_MESSAGE = MessageTemplate.parse("array is empty");
+
     @Override
     public ValidationError validate(final Object object) {
         if (CharSequence.class.isInstance(object)) {
-            return ValidationUtils.isTrue(
-                    !StringUtils.isEmpty((CharSequence) object),
-                    "string is empty");
+            return StringUtils.isEmpty((CharSequence) object) ? violation(object, STRING_MESSAGE) : null;
         } else if (Collection.class.isInstance(object)) {
-            return ValidationUtils.isTrue(
-                    !((Collection) object).isEmpty(),
-                    "collection is empty");
+            return ((Collection) object).isEmpty() ? violation(object, COLLECTION_MESSAGE) : null;
         } else if (Map.class.isInstance(object)) {
-            return ValidationUtils.isTrue(
-                    !((Map) object).isEmpty(),
-                    "map is empty");
+            return ((Map) object).isEmpty() ? violation(object, MAP_MESSAGE) : null;
         } else if (object != null && object.getClass().isArray()) {
-            int length = ((Object[]) object).length;
-            return ValidationUtils.isTrue(
-                    length > 0,
-                    "array is empty");
+            return ((Object[]) object).length == 0 ? violation(object, ARRAY_MESSAGE) : null;
         }
         return null;
     }
+
+    private ValidationError violation(final Object object, final MessageTemplate message) {
+        return ValidationUtils.violation(CONSTRAINT_ID, message, object, Collections.emptyMap());
+    }
 }
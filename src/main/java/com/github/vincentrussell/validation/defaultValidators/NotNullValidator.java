@@ -1,18 +1,25 @@
 package com.github.vincentrussell.validation.defaultValidators;
 
 
+import com.github.vincentrussell.validation.MessageTemplate;
 import com.github.vincentrussell.validation.ValidationError;
 import com.github.vincentrussell.validation.Validator;
+import com.github.vincentrussell.validation.annotation.NotNull;
 import com.github.vincentrussell.validation.util.ValidationUtils;
 
+import java.util.Collections;
+
 /**
  * Default NotNull {@link com.github.vincentrussell.validation.annotation.Validator}.
  */
 public final class NotNullValidator implements Validator {
 
+    private static final String CONSTRAINT_ID = NotNull.class.getName();
+    private static final MessageTemplate MESSAGE = MessageTemplate.parse("value is null");
 
     @Override
     public ValidationError validate(final Object object) {
-        return ValidationUtils.isTrue(object != null, "value is null");
+        return object != null ? null : ValidationUtils.violation(CONSTRAINT_ID, MESSAGE, null,
+                Collections.emptyMap());
     }
 }
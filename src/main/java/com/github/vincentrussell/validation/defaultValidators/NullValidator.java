@@ -1,18 +1,25 @@
 package com.github.vincentrussell.validation.defaultValidators;
 
 
+import com.github.vincentrussell.validation.MessageTemplate;
 import com.github.vincentrussell.validation.ValidationError;
 import com.github.vincentrussell.validation.Validator;
+import com.github.vincentrussell.validation.annotation.Null;
 import com.github.vincentrussell.validation.util.ValidationUtils;
 
+import java.util.Collections;
+
 /**
  * Null {@link com.github.vincentrussell.validation.annotation.Validator}.
  */
 public final class NullValidator implements Validator {
 
+    private static final String CONSTRAINT_ID = Null.class.getName();
+    private static final MessageTemplate MESSAGE = MessageTemplate.parse("value is not null");
 
     @Override
     public ValidationError validate(final Object object) {
-        return ValidationUtils.isTrue(object == null, "value is not null");
+        return object == null ? null : ValidationUtils.violation(CONSTRAINT_ID, MESSAGE, object,
+                Collections.emptyMap());
     }
 }
@@ -2,6 +2,7 @@ package com.github.vincentrussell.validation.defaultValidators;
 
 import com.github.vincentrussell.validation.ValidationError;
 import com.github.vincentrussell.validation.Validator;
+import com.github.vincentrussell.validation.annotation.Past;
 import com.github.vincentrussell.validation.util.ValidationUtils;
 
 import java.time.ZoneId;
@@ -9,9 +10,11 @@ import java.time.ZonedDateTime;
 
 public final class PastValidator implements Validator {
 
+    private static final String CONSTRAINT_ID = Past.class.getName();
+
     @Override
     public ValidationError validate(final Object object) {
-        return ValidationUtils.isDateBefore(object, ZonedDateTime.now(ZoneId.of("UTC")));
+        return ValidationUtils.isDateBefore(object, ZonedDateTime.now(ZoneId.of("UTC")), CONSTRAINT_ID);
     }
 }
 
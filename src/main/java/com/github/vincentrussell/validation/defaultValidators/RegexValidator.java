@@ -1,10 +1,14 @@
 package com.github.vincentrussell.validation.defaultValidators;
 
+import com.github.vincentrussell.validation.MessageTemplate;
 import com.github.vincentrussell.validation.ValidationError;
 import com.github.vincentrussell.validation.Validator;
 import com.github.vincentrussell.validation.annotation.ConstructorParam;
+import com.github.vincentrussell.validation.annotation.Regex;
 import com.github.vincentrussell.validation.util.ValidationUtils;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,7 +17,14 @@ import java.util.regex.Pattern;
  */
 public final class RegexValidator implements Validator {
 
+    private static final String CONSTRAINT_ID = Regex.class.getName();
+    private static final MessageTemplate NOT_A_STRING_MESSAGE = MessageTemplate.parse(
+            "value {value} is not a string");
+    private static final MessageTemplate NO_MATCH_MESSAGE = MessageTemplate.parse(
+            "string {value} does not match pattern {pattern}");
+
     private final Pattern pattern;
+    private final Map<String, Object> parameters;
 
     /**
      * Default constructor.
@@ -23,6 +34,7 @@ public final class RegexValidator implements Validator {
      */
     public RegexValidator(@ConstructorParam("regex") final String regex, @ConstructorParam("flags") final int flags) {
         this.pattern = Pattern.compile(regex, flags);
+        this.parameters = Collections.singletonMap("pattern", pattern);
     }
 
     @Override
@@ -31,10 +43,11 @@ public final class RegexValidator implements Validator {
             return null;
         }
         if (!CharSequence.class.isInstance(object)) {
-            return ValidationUtils.isTrue(false, "value %s is not a string", object);
+            return ValidationUtils.violation(CONSTRAINT_ID, NOT_A_STRING_MESSAGE, object, parameters);
         }
         Matcher matcher = pattern.matcher((CharSequence) object);
-        return ValidationUtils.isTrue(matcher.matches(), "string %s does not match pattern %s", object, pattern);
+        return matcher.matches() ? null
+                : ValidationUtils.violation(CONSTRAINT_ID, NO_MATCH_MESSAGE, object, parameters);
     }
 
 
@@ -1,11 +1,14 @@
 package com.github.vincentrussell.validation.defaultValidators;
 
+import com.github.vincentrussell.validation.MessageTemplate;
 import com.github.vincentrussell.validation.ValidationError;
 import com.github.vincentrussell.validation.Validator;
 import com.github.vincentrussell.validation.annotation.ConstructorParam;
+import com.github.vincentrussell.validation.annotation.Size;
 import com.github.vincentrussell.validation.util.ValidationUtils;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -20,6 +23,16 @@ import java.util.Map;
  */
 public final class SizeValidator implements Validator {
 
+    private static final String CONSTRAINT_ID = Size.class.getName();
+    private static final MessageTemplate STRING_MESSAGE = MessageTemplate.parse(
+            "string length {length} didn't between required min {min} and max {max}");
+    private static final MessageTemplate COLLECTION_MESSAGE = MessageTemplate.parse(
+            "collection length {length} didn't between required min {min} and max {max}");
+    private static final MessageTemplate MAP_MESSAGE = MessageTemplate.parse(
+            "map length {length} didn't between required min {min} and max {max}");
+    private static final MessageTemplate ARRAY_MESSAGE = MessageTemplate.parse(
+            "array length {length} didn't between required min {min} and max {max}");
+
     private final int min;
     private final int max;
 
@@ -39,32 +52,28 @@ public final class SizeValidator implements Validator {
     public ValidationError validate(final Object object) {
         if (CharSequence.class.isInstance(object)) {
             int length = ((CharSequence) object).length();
-            return ValidationUtils.isTrue(
-                    lengthCheck(length),
-                    "string length %d didn't between required min %d and max %d",
-                    length, min, max);
+            return lengthCheck(length) ? null : violation(object, STRING_MESSAGE, length);
         } else if (Collection.class.isInstance(object)) {
             int length = ((Collection) object).size();
-            return ValidationUtils.isTrue(
-                    lengthCheck(length),
-                    "collection length %d didn't between required min %d and max %d",
-                    length, min, max);
+            return lengthCheck(length) ? null : violation(object, COLLECTION_MESSAGE, length);
         } else if (Map.class.isInstance(object)) {
             int length = ((Map) object).size();
-            return ValidationUtils.isTrue(
-                    lengthCheck(length),
-                    "map length %d didn't between required min %d and max %d",
-                    length, min, max);
+            return lengthCheck(length) ? null : violation(object, MAP_MESSAGE, length);
         } else if (object != null && object.getClass().isArray()) {
             int length = ((Object[]) object).length;
-            return ValidationUtils.isTrue(
-                    lengthCheck(length),
-                    "array length %d didn't between required min %d and max %d",
-                    length, min, max);
+            return lengthCheck(length) ? null : violation(object, ARRAY_MESSAGE, length);
         }
         return null;
     }
 
+    private ValidationError violation(final Object object, final MessageTemplate message, final int length) {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("length", length);
+        parameters.put("min", min);
+        parameters.put("max", max);
+        return ValidationUtils.violation(CONSTRAINT_ID, message, object, parameters);
+    }
+
     private boolean lengthCheck(final int length) {
         boolean minLengthCheck = min == -1 || length >= min;
         boolean maxLengthCheck = max == -1 || length <= max;
@@ -0,0 +1,17 @@
+package com.github.vincentrussell.validation.flow;
+
+/**
+ * Produces items for a {@link Subscriber} as it requests them.  The same contract as
+ * <code>java.util.concurrent.Flow.Publisher</code>, which is not available on Java 8.
+ *
+ * @param <T> the type of the items.
+ */
+public interface Publisher<T> {
+
+    /**
+     * Add a subscriber.  It gets {@link Subscriber#onSubscribe(Subscription)} and no items until it requests them.
+     *
+     * @param subscriber the {@link Subscriber}.
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+}
@@ -0,0 +1,37 @@
+package com.github.vincentrussell.validation.flow;
+
+/**
+ * Receives the items of a {@link Publisher}.  The same contract as
+ * <code>java.util.concurrent.Flow.Subscriber</code>, which is not available on Java 8.  The methods are called one
+ * after another, never at the same time.
+ *
+ * @param <T> the type of the items.
+ */
+public interface Subscriber<T> {
+
+    /**
+     * Called before any other method.
+     *
+     * @param subscription the {@link Subscription} to request items or cancel.
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Called for every item that was requested.
+     *
+     * @param item the item.
+     */
+    void onNext(T item);
+
+    /**
+     * Called once if the publisher failed, no other method is called after it.
+     *
+     * @param throwable the failure.
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Called once after the last item, no other method is called after it.
+     */
+    void onComplete();
+}
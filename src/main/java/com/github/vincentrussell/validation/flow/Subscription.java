@@ -0,0 +1,21 @@
+package com.github.vincentrussell.validation.flow;
+
+/**
+ * The link between a {@link Publisher} and a {@link Subscriber}.  The same contract as
+ * <code>java.util.concurrent.Flow.Subscription</code>, which is not available on Java 8.
+ */
+public interface Subscription {
+
+    /**
+     * Request more items.
+     *
+     * @param n the number of items, {@link Long#MAX_VALUE} for all of them.  A number that is not positive fails the
+     *          subscriber with an {@link IllegalArgumentException}.
+     */
+    void request(long n);
+
+    /**
+     * Stop receiving items.
+     */
+    void cancel();
+}
@@ -0,0 +1,57 @@
+package com.github.vincentrussell.validation.flow;
+
+import com.github.vincentrussell.validation.ValidationResponse;
+
+/**
+ * An item and the {@link ValidationResponse} that {@link ValidationProcessor} produced for it.
+ *
+ * @param <T> the type of the item.
+ */
+public final class Validated<T> {
+
+    private final T item;
+    private final ValidationResponse validationResponse;
+
+    /**
+     * Default constructor.
+     *
+     * @param item               the item.
+     * @param validationResponse the {@link ValidationResponse} of the item.
+     */
+    public Validated(final T item, final ValidationResponse validationResponse) {
+        this.item = item;
+        this.validationResponse = validationResponse;
+    }
+
+    /**
+     * Get the item.
+     *
+     * @return the item.
+     */
+    public T getItem() {
+        return item;
+    }
+
+    /**
+     * Get the response of the item.
+     *
+     * @return the {@link ValidationResponse}.
+     */
+    public ValidationResponse getValidationResponse() {
+        return validationResponse;
+    }
+
+    /**
+     * Whether the item is valid.
+     *
+     * @return true if the item has no validation errors.
+     */
+    public boolean isValid() {
+        return validationResponse.isValid();
+    }
+
+    @Override
+    public String toString() {
+        return "Validated{item=" + item + ", valid=" + isValid() + '}';
+    }
+}
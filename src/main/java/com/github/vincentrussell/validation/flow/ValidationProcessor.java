@@ -0,0 +1,344 @@
+package com.github.vincentrussell.validation.flow;
+
+import com.github.vincentrussell.validation.ValidationOptions;
+import com.github.vincentrussell.validation.ValidationService;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+/**
+ * Validates the items of an upstream {@link Publisher} with a {@link ValidationService} and publishes them as
+ * {@link Validated} items in the order that they arrived.  At most <code>window</code> items are requested from
+ * upstream and not delivered yet, they are validated on the {@link Executor} at the same time and wait in order until
+ * their subscriber requests them.  So the buffer never grows past the window and a slow subscriber slows down the
+ * upstream.
+ * <p>
+ * The subscriber of {@link #subscribe(Subscriber)} gets every item.  Without it the valid items go to the subscriber
+ * of {@link #getValid()} and the invalid items to the subscriber of {@link #getInvalid()}, an item whose route has no
+ * subscriber is dropped.  Nothing is requested from upstream until a subscriber requests items, so subscribe every
+ * route before requesting.  An item waits until its own subscriber requests it, the items after it wait as well.
+ *
+ * @param <T> the type of the items.
+ */
+public final class ValidationProcessor<T> implements Subscriber<T>, Publisher<Validated<T>> {
+
+    private final ValidationService validationService;
+    private final ValidationOptions options;
+    private final Executor executor;
+    private final int window;
+    private final Queue<Pending<T>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Route all = new Route();
+    private final Route valid = new Route();
+    private final Route invalid = new Route();
+    private volatile Subscription upstream;
+    private volatile boolean upstreamDone;
+    private volatile boolean upstreamCancelled;
+    private volatile Throwable upstreamError;
+    //only used while draining
+    private boolean terminated;
+    private Throwable terminalError;
+
+    /**
+     * Create a processor that collects every error.
+     *
+     * @param validationService the {@link ValidationService} that validates the items.
+     * @param executor          the {@link Executor} that validates the items, usually a bounded pool.
+     * @param window            the number of items that are requested from upstream and not delivered yet.
+     * @throws IllegalArgumentException if the window is less than one.
+     */
+    public ValidationProcessor(final ValidationService validationService, final Executor executor, final int window) {
+        this(validationService, ValidationOptions.DEFAULT, executor, window);
+    }
+
+    /**
+     * Default constructor.
+     *
+     * @param validationService the {@link ValidationService} that validates the items.
+     * @param options           the {@link ValidationOptions} of every item.
+     * @param executor          the {@link Executor} that validates the items, usually a bounded pool.
+     * @param window            the number of items that are requested from upstream and not delivered yet.
+     * @throws IllegalArgumentException if the window is less than one.
+     */
+    public ValidationProcessor(final ValidationService validationService, final ValidationOptions options,
+                               final Executor executor, final int window) {
+        notNull(validationService, "the passed in validationService is null");
+        notNull(options, "the passed in options are null");
+        notNull(executor, "the passed in executor is null");
+        if (window < 1) {
+            throw new IllegalArgumentException(String.format("window has to be at least 1 but was %d", window));
+        }
+        this.validationService = validationService;
+        this.options = options;
+        this.executor = executor;
+        this.window = window;
+    }
+
+    /**
+     * Get the publisher of the valid items, it is only used if there is no subscriber for every item.
+     *
+     * @return the {@link Publisher}.
+     */
+    public Publisher<Validated<T>> getValid() {
+        return valid;
+    }
+
+    /**
+     * Get the publisher of the invalid items, it is only used if there is no subscriber for every item.
+     *
+     * @return the {@link Publisher}.
+     */
+    public Publisher<Validated<T>> getInvalid() {
+        return invalid;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super Validated<T>> subscriber) {
+        all.subscribe(subscriber);
+    }
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+        notNull(subscription, "the passed in subscription is null");
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        start();
+    }
+
+    @Override
+    public void onNext(final T item) {
+        notNull(item, "the passed in item is null");
+        final Pending<T> next = new Pending<>(item);
+        pending.add(next);
+        try {
+            executor.execute(() -> validate(next));
+        } catch (RejectedExecutionException e) {
+            next.throwable = e;
+            drain();
+        }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        upstreamError = throwable;
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        drain();
+    }
+
+    private void validate(final Pending<T> next) {
+        try {
+            next.validated = new Validated<>(next.item, validationService.validate(next.item, options));
+        } catch (RuntimeException e) {
+            next.throwable = e;
+        }
+        drain();
+    }
+
+    private void start() {
+        final Subscription subscription = upstream;
+        if (subscription != null && (all.hasDemand() || valid.hasDemand() || invalid.hasDemand())
+                && started.compareAndSet(false, true)) {
+            subscription.request(window);
+        }
+    }
+
+    //delivers the validated items in order, only one thread drains at a time
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            all.failBadRequest();
+            valid.failBadRequest();
+            invalid.failBadRequest();
+            long removed = 0;
+            while (!terminated) {
+                final Pending<T> next = pending.peek();
+                if (next == null) {
+                    if (upstreamDone) {
+                        terminated = true;
+                        terminalError = upstreamError;
+                    }
+                    break;
+                } else if (next.throwable != null) {
+                    pending.clear();
+                    cancelUpstream();
+                    terminated = true;
+                    terminalError = next.throwable;
+                    break;
+                } else if (next.validated == null) {
+                    break;
+                } else if (!route(next.validated).emit(next.validated)) {
+                    break;
+                }
+                pending.poll();
+                removed++;
+            }
+            if (terminated) {
+                all.terminate(terminalError);
+                valid.terminate(terminalError);
+                invalid.terminate(terminalError);
+            } else if (removed > 0 && !upstreamDone && !upstreamCancelled) {
+                upstream.request(removed);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private Route route(final Validated<T> validated) {
+        if (all.isSubscribed()) {
+            return all;
+        }
+        return validated.isValid() ? valid : invalid;
+    }
+
+    private void cancelUpstream() {
+        final Subscription subscription = upstream;
+        if (subscription != null && !upstreamCancelled) {
+            upstreamCancelled = true;
+            subscription.cancel();
+        }
+    }
+
+    private void cancelIfEveryRouteIsCancelled() {
+        if (all.isInactive() && valid.isInactive() && invalid.isInactive()) {
+            cancelUpstream();
+        }
+    }
+
+    /**
+     * An item that was received from upstream.  It is done once it has a result or a failure.
+     *
+     * @param <T> the type of the item.
+     */
+    private static final class Pending<T> {
+
+        private final T item;
+        private volatile Validated<T> validated;
+        private volatile Throwable throwable;
+
+        Pending(final T item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * The publisher and subscription of one subscriber.
+     */
+    private final class Route implements Publisher<Validated<T>>, Subscription {
+
+        private final AtomicReference<Subscriber<? super Validated<T>>> subscriber = new AtomicReference<>();
+        private final AtomicLong demand = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile IllegalArgumentException badRequest;
+        //only used while draining
+        private boolean done;
+
+        @Override
+        public void subscribe(final Subscriber<? super Validated<T>> newSubscriber) {
+            notNull(newSubscriber, "the passed in subscriber is null");
+            if (!subscriber.compareAndSet(null, newSubscriber)) {
+                newSubscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(final long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                newSubscriber.onError(new IllegalStateException("there is already a subscriber"));
+                return;
+            }
+            newSubscriber.onSubscribe(this);
+            drain();
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                badRequest = new IllegalArgumentException(String.format(
+                        "the number of requested items has to be positive but was %d", n));
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE
+                        : current + added);
+                start();
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            cancelIfEveryRouteIsCancelled();
+        }
+
+        boolean isSubscribed() {
+            return subscriber.get() != null;
+        }
+
+        boolean hasDemand() {
+            return demand.get() > 0;
+        }
+
+        boolean isInactive() {
+            return subscriber.get() == null || cancelled;
+        }
+
+        //delivers the item or drops it if nobody subscribed, false if the subscriber didn't request it yet
+        boolean emit(final Validated<T> validated) {
+            final Subscriber<? super Validated<T>> current = subscriber.get();
+            if (current == null || cancelled) {
+                return true;
+            }
+            final long requested = demand.get();
+            if (requested == 0) {
+                return false;
+            } else if (requested != Long.MAX_VALUE) {
+                demand.decrementAndGet();
+            }
+            current.onNext(validated);
+            return true;
+        }
+
+        void failBadRequest() {
+            final Subscriber<? super Validated<T>> current = subscriber.get();
+            if (badRequest != null && current != null && !cancelled && !done) {
+                done = true;
+                cancel();
+                current.onError(badRequest);
+            }
+        }
+
+        void terminate(final Throwable throwable) {
+            final Subscriber<? super Validated<T>> current = subscriber.get();
+            if (current != null && !cancelled && !done) {
+                done = true;
+                if (throwable != null) {
+                    current.onError(throwable);
+                } else {
+                    current.onComplete();
+                }
+            }
+        }
+    }
+}
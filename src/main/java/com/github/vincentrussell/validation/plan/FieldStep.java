@@ -0,0 +1,181 @@
+package com.github.vincentrussell.validation.plan;
+
+import com.github.vincentrussell.validation.LongValidator;
+import com.github.vincentrussell.validation.MessageTemplate;
+import com.github.vincentrussell.validation.Validator;
+import com.github.vincentrussell.validation.ValidatorWithMainObject;
+import com.github.vincentrussell.validation.util.FieldAccessor;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * One field of a {@link ValidationPlan} with everything that is needed to validate it already resolved.
+ */
+public final class FieldStep {
+
+    /**
+     * Type index used when there is no {@link com.github.vincentrussell.validation.type.TypeDeterminer} for the main
+     * object.  Every step applies.
+     */
+    public static final int ALL_TYPES = -1;
+
+    /**
+     * Type index used when the determined type is not declared on any field.  Only steps without types apply.
+     */
+    public static final int UNKNOWN_TYPE = -2;
+
+    private final FieldAccessor fieldAccessor;
+    private final String path;
+    private final Validator[] validators;
+    private final boolean nested;
+    private final String errorMessage;
+    private final MessageTemplate errorMessageTemplate;
+    private final BitSet typeMask;
+    private final boolean longValued;
+
+    /**
+     * Default constructor.
+     *
+     * @param fieldAccessor the accessor for the field that is validated.
+     * @param path          the path element for this field; the alias or the field name.
+     * @param validators    the resolved validators for this field.
+     * @param nested        true if the field has no validators and its value should be validated recursively.
+     * @param errorMessage  the error message from the annotation or null.
+     * @param typeMask      the indexes of the types this field applies to or null if it applies to all types.
+     */
+    public FieldStep(final FieldAccessor fieldAccessor, final String path, final Validator[] validators,
+                     final boolean nested, final String errorMessage, final BitSet typeMask) {
+        this.fieldAccessor = fieldAccessor;
+        this.path = path;
+        this.validators = validators.clone();
+        this.nested = nested;
+        this.errorMessage = errorMessage;
+        this.errorMessageTemplate = StringUtils.isEmpty(errorMessage) ? null : MessageTemplate.parse(errorMessage);
+        this.typeMask = typeMask != null ? (BitSet) typeMask.clone() : null;
+        //a validator with the main object gets it through the boxed value, so it is never called without it
+        this.longValued = fieldAccessor.isLongReadable() && validators.length > 0
+                && Arrays.stream(validators).allMatch(validator -> LongValidator.class.isInstance(validator)
+                && !ValidatorWithMainObject.class.isInstance(validator));
+    }
+
+    /**
+     * Get the field.
+     *
+     * @return the field.
+     */
+    public Field getField() {
+        return fieldAccessor.getField();
+    }
+
+    /**
+     * Get the accessor for the field.
+     *
+     * @return the {@link FieldAccessor}.
+     */
+    public FieldAccessor getFieldAccessor() {
+        return fieldAccessor;
+    }
+
+    /**
+     * Get the path element for this field.
+     *
+     * @return the alias or the field name.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Get the number of resolved validators.
+     *
+     * @return the number of validators.
+     */
+    public int getValidatorCount() {
+        return validators.length;
+    }
+
+    /**
+     * Get a resolved validator.
+     *
+     * @param index the index of the validator.
+     * @return the {@link com.github.vincentrussell.validation.Validator}.
+     */
+    public Validator getValidator(final int index) {
+        return validators[index];
+    }
+
+    /**
+     * Whether the value of this field should be validated recursively instead of with validators.
+     *
+     * @return true if there are no validators on this field.
+     */
+    public boolean isNested() {
+        return nested;
+    }
+
+    /**
+     * Get the error message.
+     *
+     * @return the error message from the annotation or null.
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Get the error message as a template that was parsed when the plan was compiled.
+     *
+     * @return the {@link MessageTemplate} or null if the annotation has no error message.
+     */
+    public MessageTemplate getErrorMessageTemplate() {
+        return errorMessageTemplate;
+    }
+
+    /**
+     * Whether this step applies to the type with the given index.
+     *
+     * @param typeIndex the index of the determined type, {@link #ALL_TYPES} or {@link #UNKNOWN_TYPE}.
+     * @return true if the field should be validated.
+     */
+    public boolean appliesTo(final int typeIndex) {
+        return typeIndex == ALL_TYPES || typeMask == null || (typeIndex >= 0 && typeMask.get(typeIndex));
+    }
+
+    /**
+     * Read the value of this field.
+     *
+     * @param object the object that contains the field.
+     * @return the value at that field.
+     */
+    public Object getValue(final Object object) {
+        return fieldAccessor.get(object);
+    }
+
+    /**
+     * Whether the field is an integral primitive and all of the validators are {@link LongValidator}s without the
+     * main object so that the value never has to be boxed.
+     *
+     * @return true if {@link #getLongValue(Object)} can be used.
+     */
+    public boolean isLongValued() {
+        return longValued;
+    }
+
+    /**
+     * Read the value of this field without boxing it.
+     *
+     * @param object the object that contains the field.
+     * @return the value at that field.
+     */
+    public long getLongValue(final Object object) {
+        return fieldAccessor.getLong(object);
+    }
+
+    @Override
+    public String toString() {
+        return fieldAccessor.toString();
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.vincentrussell.validation.plan;
+
+import com.github.vincentrussell.validation.LongValidator;
+import com.github.vincentrussell.validation.ValidationError;
+import com.github.vincentrussell.validation.Validator;
+import com.github.vincentrussell.validation.ValidatorWithMainObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PlanExecutor} that walks the {@link FieldStep}s of a plan in a loop.  Every plan can be run this way.
+ */
+public final class InterpretedPlanExecutor implements PlanExecutor {
+
+    private static Logger LOGGER = LoggerFactory.getLogger(InterpretedPlanExecutor.class);
+
+    private final FieldStep[] fieldSteps;
+
+    /**
+     * Default constructor.
+     *
+     * @param fieldSteps the steps to run.
+     */
+    public InterpretedPlanExecutor(final FieldStep[] fieldSteps) {
+        this.fieldSteps = fieldSteps.clone();
+    }
+
+    @Override
+    public void execute(final Object mainObject, final Object object, final int typeIndex,
+                        final StepVisitor visitor) {
+        for (FieldStep fieldStep : fieldSteps) {
+            if (fieldStep.isNested()) {
+                executeNested(object, fieldStep, visitor);
+            } else if (fieldStep.getValidatorCount() > 0 && fieldStep.appliesTo(typeIndex)) {
+                if (fieldStep.isLongValued()) {
+                    executeLong(object, fieldStep, visitor);
+                } else {
+                    executeObject(mainObject, object, fieldStep, visitor);
+                }
+            }
+            if (visitor.isDone()) {
+                return;
+            }
+        }
+    }
+
+    private void executeNested(final Object object, final FieldStep fieldStep, final StepVisitor visitor) {
+        final Object value;
+        try {
+            value = fieldStep.getValue(object);
+        } catch (RuntimeException e) {
+            visitor.visitFailure(fieldStep, null, null, e);
+            return;
+        }
+        if (value != null) {
+            visitor.visitNested(fieldStep, value);
+        }
+    }
+
+    private void executeLong(final Object object, final FieldStep fieldStep, final StepVisitor visitor) {
+        final long value;
+        try {
+            value = fieldStep.getLongValue(object);
+        } catch (RuntimeException e) {
+            visitor.visitFailure(fieldStep, null, null, e);
+            return;
+        }
+        for (int i = 0; i < fieldStep.getValidatorCount(); i++) {
+            final LongValidator validator = (LongValidator) fieldStep.getValidator(i);
+            try {
+                ValidationError validationError = validator.validateLong(value);
+                if (validationError != null) {
+                    visitor.visitError(fieldStep, fieldStep.getValue(object), validationError);
+                }
+            } catch (Throwable e) {
+                visitor.visitFailure(fieldStep, validator, fieldStep.getValue(object), e);
+            }
+            if (visitor.isDone()) {
+                return;
+            }
+        }
+    }
+
+    private void executeObject(final Object mainObject, final Object object, final FieldStep fieldStep,
+                               final StepVisitor visitor) {
+        final Object value;
+        try {
+            value = fieldStep.getValue(object);
+        } catch (RuntimeException e) {
+            visitor.visitFailure(fieldStep, null, null, e);
+            return;
+        }
+        for (int i = 0; i < fieldStep.getValidatorCount(); i++) {
+            final Validator validator = fieldStep.getValidator(i);
+            try {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("validating field={}, validator={}, value={}", fieldStep, validator, value);
+                }
+                ValidationError validationError = null;
+                if (ValidatorWithMainObject.class.isInstance(validator)) {
+                    validationError = ((ValidatorWithMainObject) validator).validate(value, mainObject);
+                } else {
+                    validationError = validator.validate(value);
+                }
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("validating field={}, validator={}, value={}, validationError={}", fieldStep,
+                            validator, value, validationError);
+                }
+                if (validationError != null) {
+                    visitor.visitError(fieldStep, value, validationError);
+                }
+            } catch (Throwable e) {
+                visitor.visitFailure(fieldStep, validator, value, e);
+            }
+            if (visitor.isDone()) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.vincentrussell.validation.plan;
+
+/**
+ * Runs the {@link FieldStep}s of a {@link ValidationPlan} against one object.
+ */
+public interface PlanExecutor {
+
+    /**
+     * Validate the fields of one object.
+     *
+     * @param mainObject the top level object that is being validated.
+     * @param object     the object whose fields are validated.
+     * @param typeIndex  the index of the determined type of the main object.
+     * @param visitor    receives the errors and the nested values.
+     */
+    void execute(Object mainObject, Object object, int typeIndex, StepVisitor visitor);
+}
@@ -0,0 +1,300 @@
+package com.github.vincentrussell.validation.plan;
+
+import com.github.vincentrussell.validation.LongValidator;
+import com.github.vincentrussell.validation.ValidationError;
+import com.github.vincentrussell.validation.Validator;
+import com.github.vincentrussell.validation.ValidatorWithMainObject;
+import com.github.vincentrussell.validation.util.ClassScopedMap;
+import javassist.CannotCompileException;
+import javassist.ClassClassPath;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtField;
+import javassist.CtMethod;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.NotFoundException;
+import javassist.bytecode.AccessFlag;
+import javassist.bytecode.Bytecode;
+import javassist.bytecode.MethodInfo;
+import javassist.bytecode.Opcode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Map;
+
+/**
+ * Generates a {@link PlanExecutor} class for a {@link ValidationPlan} at runtime.  The generated class has a method
+ * per {@link FieldStep} with the validator calls unrolled, so that every call site only ever sees one validator.
+ * The generated class reads the validators from the steps that it is created with, so a new plan for a type reuses
+ * the class of the type as long as the steps have the same fields and the same kinds and numbers of validators.
+ * Every class is defined in its own class loader, so a class that was replaced goes away with the last plan that
+ * uses it.
+ * <p>
+ * The {@link java.lang.invoke.MethodHandle}s of the {@link com.github.vincentrussell.validation.util.FieldAccessor}s
+ * are copied into static final fields of the generated class when it is initialized, and the fields are read with
+ * <code>invokeExact</code> on those constants, so the JIT can inline the field reads.
+ */
+public final class PlanExecutorGenerator {
+
+    private static Logger LOGGER = LoggerFactory.getLogger(PlanExecutorGenerator.class);
+
+    private static final String FIELD_STEP = FieldStep.class.getName();
+    private static final String METHOD_HANDLE = "java.lang.invoke.MethodHandle";
+    private static final String OBJECT_GETTER_DESCRIPTOR = "(Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final String LONG_GETTER_DESCRIPTOR = "(Ljava/lang/Object;)J";
+    private static final String STEP_VISITOR = StepVisitor.class.getName();
+    private static final String VALIDATION_ERROR = ValidationError.class.getName();
+    private static final String DONE_CHECK = "if (visitor.isDone()) { return; }";
+    private static final String PARAMETERS = "(Object mainObject, Object object, int typeIndex, "
+            + STEP_VISITOR + " visitor)";
+
+    //the steps of the generated class that is being initialized
+    private static final ThreadLocal<FieldStep[]> INITIALIZING_STEPS = new ThreadLocal<>();
+
+    private final ClassPool classPool;
+    //the latest generated class of every type
+    private final Map<Class, GeneratedClass> generatedClasses = ClassScopedMap.forClasses();
+
+    /**
+     * Default constructor.
+     */
+    public PlanExecutorGenerator() {
+        this.classPool = new ClassPool(true);
+        this.classPool.appendClassPath(new ClassClassPath(PlanExecutor.class));
+    }
+
+    /**
+     * Generate a {@link PlanExecutor} for the steps of a class.  A class is only generated if the type doesn't have
+     * one for steps like these yet.
+     *
+     * @param type       the class that the steps validate.
+     * @param fieldSteps the steps for the fields of the class.
+     * @return the generated {@link PlanExecutor} or null if it could not be generated.
+     */
+    public synchronized PlanExecutor generate(final Class<?> type, final FieldStep[] fieldSteps) {
+        final String shape = getShape(fieldSteps);
+        GeneratedClass generatedClass = generatedClasses.get(type);
+        if (generatedClass == null || !generatedClass.shape.equals(shape)) {
+            final Constructor<?> constructor = generateClass(type, fieldSteps);
+            if (constructor == null) {
+                return null;
+            }
+            generatedClass = new GeneratedClass(shape, constructor);
+            generatedClasses.put(type, generatedClass);
+        }
+        try {
+            return (PlanExecutor) generatedClass.constructor.newInstance(new Object[] {fieldSteps.clone()});
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            LOGGER.warn(String.format("could not create a plan executor for %s, it will be interpreted", type), e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the steps of the generated class that is being initialized.  Only the static initializer of a generated
+     * class calls this, it copies the handles of the
+     * {@link com.github.vincentrussell.validation.util.FieldAccessor}s into its static final fields.
+     *
+     * @return the steps.
+     */
+    public static FieldStep[] getInitializingSteps() {
+        return INITIALIZING_STEPS.get();
+    }
+
+    //what the generated code depends on, the validators themselves are read from the steps
+    private String getShape(final FieldStep[] fieldSteps) {
+        final StringBuilder builder = new StringBuilder();
+        for (FieldStep fieldStep : fieldSteps) {
+            builder.append(fieldStep.getField().getName()).append(fieldStep.isNested() ? ":nested" : ":");
+            for (int j = 0; j < fieldStep.getValidatorCount(); j++) {
+                builder.append(getValidatorType(fieldStep, j).getSimpleName()).append(',');
+            }
+            builder.append(';');
+        }
+        return builder.toString();
+    }
+
+    private Constructor<?> generateClass(final Class<?> type, final FieldStep[] fieldSteps) {
+        final String className = String.format("%s$$%s", PlanExecutor.class.getName(), type.getSimpleName());
+        CtClass ctClass = null;
+        try {
+            ctClass = classPool.makeClass(className);
+            ctClass.addInterface(classPool.get(PlanExecutor.class.getName()));
+            ctClass.setModifiers(javassist.Modifier.PUBLIC | javassist.Modifier.FINAL);
+            addFields(ctClass, fieldSteps);
+            addGetters(ctClass, fieldSteps);
+            ctClass.makeClassInitializer().setBody(createClassInitializer(fieldSteps));
+            ctClass.addConstructor(CtNewConstructor.make(createConstructor(ctClass, fieldSteps), ctClass));
+            final StringBuilder execute = new StringBuilder("public void execute" + PARAMETERS + " {");
+            for (int i = 0; i < fieldSteps.length; i++) {
+                final String stepMethod = createStepMethod(i, fieldSteps[i]);
+                if (stepMethod != null) {
+                    ctClass.addMethod(CtNewMethod.make(stepMethod, ctClass));
+                    execute.append("step").append(i).append("(mainObject, object, typeIndex, visitor);")
+                            .append(DONE_CHECK);
+                }
+            }
+            ctClass.addMethod(CtNewMethod.make(execute.append('}').toString(), ctClass));
+            final byte[] bytecode = ctClass.toBytecode();
+            final Class<?> executorClass = AccessController.doPrivileged((PrivilegedAction<GeneratedClassLoader>) ()
+                    -> new GeneratedClassLoader(PlanExecutor.class.getClassLoader())).define(className, bytecode);
+            INITIALIZING_STEPS.set(fieldSteps);
+            try {
+                Class.forName(className, true, executorClass.getClassLoader());
+            } finally {
+                INITIALIZING_STEPS.remove();
+            }
+            LOGGER.debug("generated {} for {}", className, type);
+            return executorClass.getConstructor(FieldStep[].class);
+        } catch (CannotCompileException | NotFoundException | IOException | NoSuchMethodException
+                | ClassNotFoundException | LinkageError e) {
+            LOGGER.warn(String.format("could not generate a plan executor for %s, it will be interpreted", type), e);
+            return null;
+        } finally {
+            if (ctClass != null) {
+                ctClass.detach();
+            }
+        }
+    }
+
+    private void addFields(final CtClass ctClass, final FieldStep[] fieldSteps) throws CannotCompileException {
+        for (int i = 0; i < fieldSteps.length; i++) {
+            ctClass.addField(CtField.make(String.format("private %s s%d;", FIELD_STEP, i), ctClass));
+            ctClass.addField(CtField.make(String.format("private static final %s h%d;", METHOD_HANDLE, i), ctClass));
+            if (fieldSteps[i].isLongValued()) {
+                ctClass.addField(CtField.make(String.format("private static final %s l%d;", METHOD_HANDLE, i),
+                        ctClass));
+            }
+            for (int j = 0; j < fieldSteps[i].getValidatorCount(); j++) {
+                ctClass.addField(CtField.make(String.format("private %s v%d_%d;",
+                        getValidatorType(fieldSteps[i], j).getName(), i, j), ctClass));
+            }
+        }
+    }
+
+    //the source compiler can't call the signature polymorphic invokeExact, so the getters are written as bytecode
+    private void addGetters(final CtClass ctClass, final FieldStep[] fieldSteps) throws CannotCompileException {
+        for (int i = 0; i < fieldSteps.length; i++) {
+            addGetter(ctClass, "get" + i, "h" + i, OBJECT_GETTER_DESCRIPTOR, Opcode.ARETURN);
+            if (fieldSteps[i].isLongValued()) {
+                addGetter(ctClass, "getLong" + i, "l" + i, LONG_GETTER_DESCRIPTOR, Opcode.LRETURN);
+            }
+        }
+    }
+
+    private void addGetter(final CtClass ctClass, final String name, final String handle, final String descriptor,
+                           final int returnOpcode) throws CannotCompileException {
+        final Bytecode bytecode = new Bytecode(ctClass.getClassFile().getConstPool(), 2, 1);
+        bytecode.addGetstatic(ctClass, handle, "L" + METHOD_HANDLE.replace('.', '/') + ";");
+        bytecode.addAload(0);
+        bytecode.addInvokevirtual(METHOD_HANDLE, "invokeExact", descriptor);
+        bytecode.addOpcode(returnOpcode);
+        final MethodInfo methodInfo = new MethodInfo(ctClass.getClassFile().getConstPool(), name, descriptor);
+        methodInfo.setAccessFlags(AccessFlag.PRIVATE | AccessFlag.STATIC);
+        methodInfo.setCodeAttribute(bytecode.toCodeAttribute());
+        ctClass.addMethod(CtMethod.make(methodInfo, ctClass));
+    }
+
+    private String createClassInitializer(final FieldStep[] fieldSteps) {
+        final StringBuilder builder = new StringBuilder(String.format("{ %s[] steps = %s.getInitializingSteps();",
+                FIELD_STEP, PlanExecutorGenerator.class.getName()));
+        for (int i = 0; i < fieldSteps.length; i++) {
+            builder.append(String.format("h%d = steps[%d].getFieldAccessor().getGetter();", i, i));
+            if (fieldSteps[i].isLongValued()) {
+                builder.append(String.format("l%d = steps[%d].getFieldAccessor().getLongGetter();", i, i));
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    private String createConstructor(final CtClass ctClass, final FieldStep[] fieldSteps) {
+        final StringBuilder builder = new StringBuilder(String.format("public %s(%s[] steps) {",
+                ctClass.getSimpleName(), FIELD_STEP));
+        for (int i = 0; i < fieldSteps.length; i++) {
+            builder.append(String.format("s%d = steps[%d];", i, i));
+            for (int j = 0; j < fieldSteps[i].getValidatorCount(); j++) {
+                builder.append(String.format("v%d_%d = (%s) s%d.getValidator(%d);", i, j,
+                        getValidatorType(fieldSteps[i], j).getName(), i, j));
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    private String createStepMethod(final int index, final FieldStep fieldStep) {
+        final StringBuilder builder = new StringBuilder(String.format("private void step%d%s {", index, PARAMETERS));
+        if (fieldStep.isNested()) {
+            builder.append(String.format("Object value = null;"
+                    + "try { value = get%d(object); } catch (RuntimeException e) {"
+                    + " visitor.visitFailure(s%d, null, null, e); return; }"
+                    + "if (value != null) { visitor.visitNested(s%d, value); }", index, index, index));
+        } else if (fieldStep.getValidatorCount() == 0) {
+            return null;
+        } else if (fieldStep.isLongValued()) {
+            builder.append(String.format("if (!s%d.appliesTo(typeIndex)) { return; }"
+                    + "long value = 0L;"
+                    + "try { value = getLong%d(object); } catch (RuntimeException e) {"
+                    + " visitor.visitFailure(s%d, null, null, e); return; }", index, index, index));
+            for (int j = 0; j < fieldStep.getValidatorCount(); j++) {
+                builder.append(String.format("try { %s e%d = v%d_%d.validateLong(value);"
+                        + " if (e%d != null) { visitor.visitError(s%d, get%d(object), e%d); } }"
+                        + " catch (Throwable t%d) { visitor.visitFailure(s%d, v%d_%d, get%d(object), t%d); }"
+                        + DONE_CHECK,
+                        VALIDATION_ERROR, j, index, j, j, index, index, j, j, index, index, j, index, j));
+            }
+        } else {
+            builder.append(String.format("if (!s%d.appliesTo(typeIndex)) { return; }"
+                    + "Object value = null;"
+                    + "try { value = get%d(object); } catch (RuntimeException e) {"
+                    + " visitor.visitFailure(s%d, null, null, e); return; }", index, index, index));
+            for (int j = 0; j < fieldStep.getValidatorCount(); j++) {
+                final String arguments = ValidatorWithMainObject.class.equals(getValidatorType(fieldStep, j))
+                        ? "value, mainObject" : "value";
+                builder.append(String.format("try { %s e%d = v%d_%d.validate(%s);"
+                        + " if (e%d != null) { visitor.visitError(s%d, value, e%d); } }"
+                        + " catch (Throwable t%d) { visitor.visitFailure(s%d, v%d_%d, value, t%d); }" + DONE_CHECK,
+                        VALIDATION_ERROR, j, index, j, arguments, j, index, j, j, index, index, j, j));
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    private Class<?> getValidatorType(final FieldStep fieldStep, final int index) {
+        if (fieldStep.isLongValued()) {
+            return LongValidator.class;
+        } else if (ValidatorWithMainObject.class.isInstance(fieldStep.getValidator(index))) {
+            return ValidatorWithMainObject.class;
+        }
+        return Validator.class;
+    }
+
+    /**
+     * A generated class and the shape of the steps that it was generated for.
+     */
+    private static final class GeneratedClass {
+
+        private final String shape;
+        private final Constructor<?> constructor;
+
+        GeneratedClass(final String shape, final Constructor<?> constructor) {
+            this.shape = shape;
+            this.constructor = constructor;
+        }
+    }
+
+    private static final class GeneratedClassLoader extends ClassLoader {
+
+        GeneratedClassLoader(final ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(final String name, final byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length, PlanExecutor.class.getProtectionDomain());
+        }
+    }
+}
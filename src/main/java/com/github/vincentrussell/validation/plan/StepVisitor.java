@@ -0,0 +1,44 @@
+package com.github.vincentrussell.validation.plan;
+
+import com.github.vincentrussell.validation.ValidationError;
+import com.github.vincentrussell.validation.Validator;
+
+/**
+ * Receives the outcome of the {@link FieldStep}s that a {@link PlanExecutor} runs.
+ */
+public interface StepVisitor {
+
+    /**
+     * Called with the value of a field that has no validators so that it can be validated recursively.
+     *
+     * @param fieldStep the step for the field.
+     * @param value     the value of the field.  Never null.
+     */
+    void visitNested(FieldStep fieldStep, Object value);
+
+    /**
+     * Called when a validator returned a {@link ValidationError}.
+     *
+     * @param fieldStep       the step for the field.
+     * @param value           the value of the field.
+     * @param validationError the error that was returned.
+     */
+    void visitError(FieldStep fieldStep, Object value, ValidationError validationError);
+
+    /**
+     * Called when reading the field or calling a validator threw.
+     *
+     * @param fieldStep the step for the field.
+     * @param validator the validator that threw or null if the field could not be read.
+     * @param value     the value of the field if it was read.
+     * @param throwable what was thrown.
+     */
+    void visitFailure(FieldStep fieldStep, Validator validator, Object value, Throwable throwable);
+
+    /**
+     * Whether the remaining steps and validators should be skipped, for example because enough errors were found.
+     *
+     * @return true if the executor should stop.
+     */
+    boolean isDone();
+}
@@ -0,0 +1,85 @@
+package com.github.vincentrussell.validation.plan;
+
+/**
+ * The compiled and immutable steps that are needed to validate one class.  Validating an object is a walk over
+ * the {@link FieldStep}s without any map lookups.
+ */
+public final class ValidationPlan {
+
+    private final Class<?> type;
+    private final FieldStep[] fieldSteps;
+    private final PlanExecutor planExecutor;
+
+    /**
+     * Create a plan that is run by an {@link InterpretedPlanExecutor}.
+     *
+     * @param type       the class that this plan validates.
+     * @param fieldSteps the steps for the fields of the class.
+     */
+    public ValidationPlan(final Class<?> type, final FieldStep[] fieldSteps) {
+        this(type, fieldSteps, null);
+    }
+
+    /**
+     * Default constructor.
+     *
+     * @param type         the class that this plan validates.
+     * @param fieldSteps   the steps for the fields of the class.
+     * @param planExecutor the executor that runs the steps or null to use an {@link InterpretedPlanExecutor}.
+     */
+    public ValidationPlan(final Class<?> type, final FieldStep[] fieldSteps, final PlanExecutor planExecutor) {
+        this.type = type;
+        this.fieldSteps = fieldSteps.clone();
+        this.planExecutor = planExecutor != null ? planExecutor : new InterpretedPlanExecutor(fieldSteps);
+    }
+
+    /**
+     * Get the class that this plan validates.
+     *
+     * @return the class.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Get the number of field steps.
+     *
+     * @return the number of field steps.
+     */
+    public int size() {
+        return fieldSteps.length;
+    }
+
+    /**
+     * Get a field step.
+     *
+     * @param index the index of the field step.
+     * @return the {@link FieldStep}.
+     */
+    public FieldStep getFieldStep(final int index) {
+        return fieldSteps[index];
+    }
+
+    /**
+     * Get the executor that runs the steps.
+     *
+     * @return the {@link PlanExecutor}.
+     */
+    public PlanExecutor getPlanExecutor() {
+        return planExecutor;
+    }
+
+    /**
+     * Validate the fields of one object.
+     *
+     * @param mainObject the top level object that is being validated.
+     * @param object     the object whose fields are validated.
+     * @param typeIndex  the index of the determined type of the main object.
+     * @param visitor    receives the errors and the nested values.
+     */
+    public void execute(final Object mainObject, final Object object, final int typeIndex,
+                        final StepVisitor visitor) {
+        planExecutor.execute(mainObject, object, typeIndex, visitor);
+    }
+}
@@ -0,0 +1,225 @@
+package com.github.vincentrussell.validation.processor;
+
+import com.github.vincentrussell.validation.annotation.Validation;
+import com.github.vincentrussell.validation.annotation.Validator;
+import com.github.vincentrussell.validation.scanner.ValidationIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that writes the {@link ValidationIndex} for the classes that are being compiled.  The index
+ * has every class with a field that is marked with {@link Validation} or with an annotation that has the
+ * {@link Validator} annotation, and every class that can reach one of those classes through its fields.  The
+ * {@link com.github.vincentrussell.validation.ValidationService} reads the index instead of scanning the classpath.
+ * <p>
+ * The processor only runs when the compiler gets the option <code>-Apojo.validation.index=true</code>.  It keeps the
+ * fields of every compiled class in {@link ValidationIndex#GRAPH_LOCATION}, so an incremental compilation that only
+ * compiles some classes still finds the unchanged classes that reach a validated class, and the
+ * {@link ValidationIndex} finds the classes that reach a validated class of another jar or directory.
+ */
+@SupportedOptions(ValidationIndexProcessor.INDEX_OPTION)
+public final class ValidationIndexProcessor extends AbstractProcessor {
+
+    /**
+     * The compiler option that turns the processor on.
+     */
+    public static final String INDEX_OPTION = "pojo.validation.index";
+
+    private final Map<String, Set<String>> typeToReferencedTypes = new HashMap<>();
+    private final Set<String> validatedTypes = new HashSet<>();
+    private boolean enabled;
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnvironment) {
+        super.init(processingEnvironment);
+        enabled = Boolean.parseBoolean(processingEnvironment.getOptions().get(INDEX_OPTION));
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        //without the option the compiler doesn't call the processor at all
+        return enabled ? Collections.singleton("*") : Collections.emptySet();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (!enabled) {
+            return false;
+        } else if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement) {
+                processType((TypeElement) element);
+            }
+        }
+        return false;
+    }
+
+    private void processType(final TypeElement typeElement) {
+        final String typeName = getBinaryName(typeElement);
+        final Set<String> referencedTypes = typeToReferencedTypes.computeIfAbsent(typeName, s -> new HashSet<>());
+        for (Element element : typeElement.getEnclosedElements()) {
+            if (ElementKind.FIELD.equals(element.getKind())) {
+                if (isValidated(element)) {
+                    validatedTypes.add(typeName);
+                }
+                addReferencedTypes(element.asType(), referencedTypes);
+            } else if (element instanceof TypeElement) {
+                processType((TypeElement) element);
+            }
+        }
+    }
+
+    private boolean isValidated(final Element field) {
+        for (AnnotationMirror annotationMirror : field.getAnnotationMirrors()) {
+            final Element annotationType = annotationMirror.getAnnotationType().asElement();
+            if (Validation.class.getName().equals(getBinaryName((TypeElement) annotationType))) {
+                return true;
+            }
+            for (AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+                if (Validator.class.getName().equals(
+                        getBinaryName((TypeElement) metaAnnotation.getAnnotationType().asElement()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void addReferencedTypes(final TypeMirror typeMirror, final Set<String> referencedTypes) {
+        if (!TypeKind.DECLARED.equals(typeMirror.getKind())) {
+            return;
+        }
+        final DeclaredType declaredType = (DeclaredType) typeMirror;
+        referencedTypes.add(getBinaryName((TypeElement) declaredType.asElement()));
+        for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+            addReferencedTypes(typeArgument, referencedTypes);
+        }
+    }
+
+    private String getBinaryName(final TypeElement typeElement) {
+        return processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+    }
+
+    private void writeIndex() {
+        //the classes of earlier compilations that were not compiled again and still exist
+        final Map<String, Set<String>> graph = new TreeMap<>();
+        final Set<String> allValidatedTypes = new HashSet<>();
+        readGraph().forEach((type, line) -> {
+            if (!typeToReferencedTypes.containsKey(type) && processingEnv.getElementUtils()
+                    .getTypeElement(type.replace('$', '.')) != null) {
+                graph.put(type, new TreeSet<>(Arrays.asList(line).subList(2, line.length)));
+                if (ValidationIndex.VALIDATED.equals(line[0])) {
+                    allValidatedTypes.add(type);
+                }
+            }
+        });
+        typeToReferencedTypes.forEach((type, referencedTypes) -> graph.put(type, new TreeSet<>(referencedTypes)));
+        allValidatedTypes.addAll(validatedTypes);
+
+        final Map<String, Set<String>> typeToReferencingTypes = new HashMap<>();
+        graph.forEach((type, referencedTypes) -> referencedTypes.forEach(referencedType ->
+                typeToReferencingTypes.computeIfAbsent(referencedType, s -> new HashSet<>()).add(type)));
+        final Set<String> indexedTypes = new TreeSet<>(allValidatedTypes);
+        final Deque<String> queue = new ArrayDeque<>(indexedTypes);
+        while (!queue.isEmpty()) {
+            for (String referencingType : typeToReferencingTypes.getOrDefault(queue.poll(),
+                    Collections.emptySet())) {
+                if (indexedTypes.add(referencingType)) {
+                    queue.add(referencingType);
+                }
+            }
+        }
+
+        //the index is written even if it is empty, it tells the service that this output doesn't have to be scanned
+        try {
+            try (Writer writer = openResource(ValidationIndex.INDEX_LOCATION)) {
+                for (String indexedType : indexedTypes) {
+                    writer.write(indexedType);
+                    writer.write('\n');
+                }
+            }
+            try (Writer writer = openResource(ValidationIndex.GRAPH_LOCATION)) {
+                for (Map.Entry<String, Set<String>> entry : graph.entrySet()) {
+                    writer.write(allValidatedTypes.contains(entry.getKey()) ? ValidationIndex.VALIDATED
+                            : ValidationIndex.NOT_VALIDATED);
+                    writer.write(' ');
+                    writer.write(entry.getKey());
+                    for (String referencedType : entry.getValue()) {
+                        writer.write(' ');
+                        writer.write(referencedType);
+                    }
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    String.format("could not write %s: %s", ValidationIndex.INDEX_LOCATION, e.getMessage()));
+        }
+    }
+
+    private Writer openResource(final String location) throws IOException {
+        final FileObject fileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT,
+                "", location);
+        return new OutputStreamWriter(fileObject.openOutputStream(), StandardCharsets.UTF_8);
+    }
+
+    //every line is the marker of a validated class, the class and the classes that its fields reference
+    private Map<String, String[]> readGraph() {
+        final Map<String, String[]> lines = new HashMap<>();
+        try {
+            final FileObject fileObject = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT,
+                    "", ValidationIndex.GRAPH_LOCATION);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(fileObject.openInputStream(),
+                    StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final String[] parts = line.trim().split(" ");
+                    if (parts.length >= 2) {
+                        lines.put(parts[1], parts);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            //there is no graph from an earlier compilation
+        }
+        return lines;
+    }
+}
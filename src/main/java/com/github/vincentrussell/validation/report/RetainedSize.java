@@ -0,0 +1,90 @@
+package com.github.vincentrussell.validation.report;
+
+/**
+ * Adds up an estimate of the bytes that are kept alive by the collections of a
+ * {@link com.github.vincentrussell.validation.ValidationService}.  The sizes are those of a 64 bit JVM with
+ * compressed references.  Classes, fields and validators are not counted because they are kept alive anyway.
+ */
+public final class RetainedSize {
+
+    private static final int REFERENCE_BYTES = 4;
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int ALIGNMENT = 8;
+    //a HashMap node and its slot in the table
+    private static final int ENTRY_BYTES = 40;
+    //a HashSet with its HashMap and an empty table
+    private static final int SET_BYTES = 80;
+    //a String with its char array header
+    private static final int STRING_BYTES = 40;
+
+    private long bytes;
+
+    /**
+     * Add the entries of a map.
+     *
+     * @param count the number of entries.
+     * @return this.
+     */
+    public RetainedSize addEntries(final int count) {
+        bytes += (long) count * ENTRY_BYTES;
+        return this;
+    }
+
+    /**
+     * Add a set or a map and its entries.
+     *
+     * @param size the number of entries.
+     * @return this.
+     */
+    public RetainedSize addSet(final int size) {
+        bytes += SET_BYTES;
+        return addEntries(size);
+    }
+
+    /**
+     * Add a string that is not shared.
+     *
+     * @param string the string.
+     * @return this.
+     */
+    public RetainedSize addString(final String string) {
+        bytes += align(STRING_BYTES + 2L * string.length());
+        return this;
+    }
+
+    /**
+     * Add an array of references.
+     *
+     * @param length the length of the array.
+     * @return this.
+     */
+    public RetainedSize addArray(final int length) {
+        bytes += align(ARRAY_HEADER_BYTES + (long) length * REFERENCE_BYTES);
+        return this;
+    }
+
+    /**
+     * Add an object.
+     *
+     * @param references the number of fields of the object.
+     * @return this.
+     */
+    public RetainedSize addObject(final int references) {
+        bytes += align(OBJECT_HEADER_BYTES + (long) references * REFERENCE_BYTES);
+        return this;
+    }
+
+    private static long align(final long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    /**
+     * Get the estimated bytes.
+     *
+     * @return the bytes.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+}
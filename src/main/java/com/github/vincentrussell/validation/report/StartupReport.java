@@ -0,0 +1,347 @@
+package com.github.vincentrussell.validation.report;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Where the time and memory went while a {@link com.github.vincentrussell.validation.ValidationService} was created.
+ * Pass a new instance to the constructor of the {@link com.github.vincentrussell.validation.ValidationService} to
+ * turn the report on; it is filled during construction and logged when the service is ready.
+ * <p>
+ * Phases can be nested, for example the validators are instantiated while the default validators are added, and a
+ * phase that runs more than once adds up.  Allocated bytes are only counted on the thread that creates the service
+ * and are -1 when the JVM can't measure them.
+ * <p>
+ * The service keeps adding to the report after it is created, for example when validators are instantiated on demand
+ * or classes are registered, so the report and its phases are synchronized and can be read from any thread.
+ */
+public final class StartupReport {
+
+    /**
+     * Scanning the classpath, the class files or the validation index.
+     */
+    public static final String SCAN = "scan";
+    /**
+     * Adding the validators for the annotations with the {@link
+     * com.github.vincentrussell.validation.annotation.Validator} annotation.
+     */
+    public static final String ADD_DEFAULT_VALIDATORS = "addDefaultValidator";
+    /**
+     * Finding the fields with the {@link com.github.vincentrussell.validation.annotation.Validation} annotation.
+     */
+    public static final String FIND_VALIDATION_ANNOTATIONS = "findAndStoreValidationAnnotations";
+    /**
+     * Finding the fields with the {@link com.github.vincentrussell.validation.annotation.PathAlias} annotation.
+     */
+    public static final String FIND_PATH_ALIAS_ANNOTATIONS = "findAndStorePathAliasAnnotations";
+    /**
+     * Finding the classes and fields that reach a validated field.
+     */
+    public static final String REACHABILITY = "reachability";
+    /**
+     * Instantiating the validators for annotations.
+     */
+    public static final String INSTANTIATE_VALIDATORS = "instantiateValidators";
+    /**
+     * Reading the {@link com.github.vincentrussell.validation.snapshot.MetadataSnapshot}.
+     */
+    public static final String READ_SNAPSHOT = "readSnapshot";
+    /**
+     * Writing the {@link com.github.vincentrussell.validation.snapshot.MetadataSnapshot}.
+     */
+    public static final String WRITE_SNAPSHOT = "writeSnapshot";
+    /**
+     * Dropping what was only needed while scanning and storing the metadata in arrays per class.
+     */
+    public static final String COMPACT_METADATA = "compactMetadata";
+    /**
+     * Compiling the validation plans.
+     */
+    public static final String COMPILE_PLANS = "compileValidationPlans";
+
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private int scannedClasses;
+    private int scannedFields;
+    private int retainedClasses;
+    private int retainedFields;
+    private int validatorInstances;
+    private long retainedBytesBeforeCompaction = -1;
+    private long retainedBytesAfterCompaction = -1;
+
+    /**
+     * Measure a phase.
+     *
+     * @param name     the name of the phase.
+     * @param supplier the work of the phase.
+     * @param <T>      the type of the result.
+     * @return the result of the supplier.
+     */
+    public <T> T measure(final String name, final Supplier<T> supplier) {
+        final long allocatedBytes = getAllocatedBytes();
+        final long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            final long nanos = System.nanoTime() - start;
+            final long allocatedBytesAfter = getAllocatedBytes();
+            final Phase phase;
+            synchronized (this) {
+                phase = phases.computeIfAbsent(name, Phase::new);
+            }
+            phase.add(nanos, allocatedBytes < 0 || allocatedBytesAfter < 0 ? -1 : allocatedBytesAfter - allocatedBytes);
+        }
+    }
+
+    /**
+     * Measure a phase.
+     *
+     * @param name     the name of the phase.
+     * @param runnable the work of the phase.
+     */
+    public void measure(final String name, final Runnable runnable) {
+        measure(name, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    private static long getAllocatedBytes() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (allocationMXBean.isThreadAllocatedMemorySupported()
+                    && allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the phases in the order that they were first started.
+     *
+     * @return the phases.
+     */
+    public synchronized List<Phase> getPhases() {
+        return Collections.unmodifiableList(new ArrayList<>(phases.values()));
+    }
+
+    /**
+     * Get a phase.
+     *
+     * @param name the name of the phase.
+     * @return the phase or null if it didn't run.
+     */
+    public synchronized Phase getPhase(final String name) {
+        return phases.get(name);
+    }
+
+    /**
+     * Get the number of classes that were scanned.
+     *
+     * @return the number of classes.
+     */
+    public synchronized int getScannedClasses() {
+        return scannedClasses;
+    }
+
+    /**
+     * Set the number of classes that were scanned.
+     *
+     * @param scannedClasses the number of classes.
+     */
+    public synchronized void setScannedClasses(final int scannedClasses) {
+        this.scannedClasses = scannedClasses;
+    }
+
+    /**
+     * Get the number of fields that were scanned.
+     *
+     * @return the number of fields.
+     */
+    public synchronized int getScannedFields() {
+        return scannedFields;
+    }
+
+    /**
+     * Set the number of fields that were scanned.
+     *
+     * @param scannedFields the number of fields.
+     */
+    public synchronized void setScannedFields(final int scannedFields) {
+        this.scannedFields = scannedFields;
+    }
+
+    /**
+     * Get the number of classes that are validated.
+     *
+     * @return the number of classes.
+     */
+    public synchronized int getRetainedClasses() {
+        return retainedClasses;
+    }
+
+    /**
+     * Set the number of classes that are validated.
+     *
+     * @param retainedClasses the number of classes.
+     */
+    public synchronized void setRetainedClasses(final int retainedClasses) {
+        this.retainedClasses = retainedClasses;
+    }
+
+    /**
+     * Get the number of fields that are validated or lead to validated fields.
+     *
+     * @return the number of fields.
+     */
+    public synchronized int getRetainedFields() {
+        return retainedFields;
+    }
+
+    /**
+     * Set the number of fields that are validated or lead to validated fields.
+     *
+     * @param retainedFields the number of fields.
+     */
+    public synchronized void setRetainedFields(final int retainedFields) {
+        this.retainedFields = retainedFields;
+    }
+
+    /**
+     * Get the number of validators that were instantiated for annotations.
+     *
+     * @return the number of validators.
+     */
+    public synchronized int getValidatorInstances() {
+        return validatorInstances;
+    }
+
+    /**
+     * Count a validator that was instantiated for an annotation.
+     */
+    public synchronized void incrementValidatorInstances() {
+        validatorInstances++;
+    }
+
+    /**
+     * Get the estimated bytes that the service kept alive after scanning, including the scan store.
+     *
+     * @return the bytes or -1 if the metadata was not compacted.
+     * @see RetainedSize
+     */
+    public synchronized long getRetainedBytesBeforeCompaction() {
+        return retainedBytesBeforeCompaction;
+    }
+
+    /**
+     * Set the estimated bytes that the service kept alive after scanning.
+     *
+     * @param retainedBytesBeforeCompaction the bytes.
+     */
+    public synchronized void setRetainedBytesBeforeCompaction(final long retainedBytesBeforeCompaction) {
+        this.retainedBytesBeforeCompaction = retainedBytesBeforeCompaction;
+    }
+
+    /**
+     * Get the estimated bytes that the service keeps alive once it is created, not counting the plans.
+     *
+     * @return the bytes or -1 if the metadata was not compacted.
+     * @see RetainedSize
+     */
+    public synchronized long getRetainedBytesAfterCompaction() {
+        return retainedBytesAfterCompaction;
+    }
+
+    /**
+     * Set the estimated bytes that the service keeps alive once it is created.
+     *
+     * @param retainedBytesAfterCompaction the bytes.
+     */
+    public synchronized void setRetainedBytesAfterCompaction(final long retainedBytesAfterCompaction) {
+        this.retainedBytesAfterCompaction = retainedBytesAfterCompaction;
+    }
+
+    @Override
+    public synchronized String toString() {
+        final StringBuilder builder = new StringBuilder("StartupReport{");
+        for (Phase phase : phases.values()) {
+            builder.append(phase).append(", ");
+        }
+        return builder.append("classes=").append(retainedClasses).append('/').append(scannedClasses)
+                .append(", fields=").append(retainedFields).append('/').append(scannedFields)
+                .append(", validatorInstances=").append(validatorInstances)
+                .append(", retainedBytes=").append(retainedBytesBeforeCompaction).append("->")
+                .append(retainedBytesAfterCompaction).append('}').toString();
+    }
+
+    /**
+     * The time and memory of one phase.
+     */
+    public static final class Phase {
+
+        private final String name;
+        private long nanos;
+        private long allocatedBytes;
+        private int count;
+
+        private Phase(final String name) {
+            this.name = name;
+        }
+
+        private synchronized void add(final long phaseNanos, final long phaseAllocatedBytes) {
+            nanos += phaseNanos;
+            allocatedBytes = allocatedBytes < 0 || phaseAllocatedBytes < 0 ? -1 : allocatedBytes + phaseAllocatedBytes;
+            count++;
+        }
+
+        /**
+         * Get the name of the phase.
+         *
+         * @return the name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the wall time of the phase.
+         *
+         * @return the time in nanoseconds.
+         */
+        public synchronized long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Get the bytes that were allocated during the phase.
+         *
+         * @return the bytes or -1 if they can't be measured.
+         */
+        public synchronized long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * Get how many times the phase ran.
+         *
+         * @return the count.
+         */
+        public synchronized int getCount() {
+            return count;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return name + "=" + TimeUnit.NANOSECONDS.toMillis(nanos) + "ms/" + allocatedBytes + "B"
+                    + (count > 1 ? "x" + count : "");
+        }
+    }
+}
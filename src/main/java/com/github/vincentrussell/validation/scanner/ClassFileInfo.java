@@ -0,0 +1,153 @@
+package com.github.vincentrussell.validation.scanner;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * What the {@link ClassFileScanner} needs from a class file: the name of the class and the classes that are named
+ * in descriptors and signatures of the constant pool.  Only the constant pool is read, the class is never loaded.
+ */
+final class ClassFileInfo {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int UNSIGNED_SHORT = 0xffff;
+    private static final int UNSIGNED_BYTE = 0xff;
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+    private static final int SHORT_SIZE = 2;
+    private static final int METHOD_HANDLE_SIZE = 3;
+    private static final int INT_SIZE = 4;
+    private static final int LONG_SIZE = 8;
+
+    private final String className;
+    private final Set<String> referencedTypes;
+
+    private ClassFileInfo(final String className, final Set<String> referencedTypes) {
+        this.className = className;
+        this.referencedTypes = referencedTypes;
+    }
+
+    /**
+     * Read the constant pool of a class file.
+     *
+     * @param buffer the bytes of the class file.
+     * @return the {@link ClassFileInfo}.
+     * @throws IllegalArgumentException if the bytes are not a class file.
+     */
+    static ClassFileInfo read(final ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("not a class file");
+            }
+            buffer.position(buffer.position() + INT_SIZE);
+            final int constantPoolCount = buffer.getShort() & UNSIGNED_SHORT;
+            final String[] utf8Constants = new String[constantPoolCount];
+            final int[] classNameIndexes = new int[constantPoolCount];
+            final Set<String> referencedTypes = new HashSet<>();
+            for (int i = 1; i < constantPoolCount; i++) {
+                final int tag = buffer.get() & UNSIGNED_BYTE;
+                if (CONSTANT_UTF8 == tag) {
+                    final byte[] bytes = new byte[buffer.getShort() & UNSIGNED_SHORT];
+                    buffer.get(bytes);
+                    utf8Constants[i] = new String(bytes, StandardCharsets.UTF_8);
+                    addReferencedTypes(utf8Constants[i], referencedTypes);
+                } else if (CONSTANT_CLASS == tag) {
+                    classNameIndexes[i] = buffer.getShort() & UNSIGNED_SHORT;
+                } else if (CONSTANT_LONG == tag || CONSTANT_DOUBLE == tag) {
+                    buffer.position(buffer.position() + LONG_SIZE);
+                    i++;
+                } else {
+                    buffer.position(buffer.position() + getSize(tag));
+                }
+            }
+            buffer.position(buffer.position() + SHORT_SIZE);
+            final String className = utf8Constants[classNameIndexes[buffer.getShort() & UNSIGNED_SHORT]];
+            if (className == null) {
+                throw new IllegalArgumentException("class file without a name");
+            }
+            referencedTypes.remove(className);
+            return new ClassFileInfo(className, referencedTypes);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("truncated class file", e);
+        }
+    }
+
+    private static int getSize(final int tag) {
+        switch (tag) {
+            case CONSTANT_STRING:
+            case CONSTANT_METHOD_TYPE:
+            case CONSTANT_MODULE:
+            case CONSTANT_PACKAGE:
+                return SHORT_SIZE;
+            case CONSTANT_METHOD_HANDLE:
+                return METHOD_HANDLE_SIZE;
+            case CONSTANT_INTEGER:
+            case CONSTANT_FLOAT:
+            case CONSTANT_FIELDREF:
+            case CONSTANT_METHODREF:
+            case CONSTANT_INTERFACE_METHODREF:
+            case CONSTANT_NAME_AND_TYPE:
+            case CONSTANT_DYNAMIC:
+            case CONSTANT_INVOKE_DYNAMIC:
+                return INT_SIZE;
+            default:
+                throw new IllegalArgumentException(String.format("unknown constant pool tag %d", tag));
+        }
+    }
+
+    //adds the classes of descriptors and signatures like Ljava/util/List<Lcom/example/Item;>;
+    private static void addReferencedTypes(final String utf8Constant, final Set<String> referencedTypes) {
+        int start = utf8Constant.indexOf('L');
+        while (start >= 0) {
+            int end = start + 1;
+            while (end < utf8Constant.length() && isNameCharacter(utf8Constant.charAt(end))) {
+                end++;
+            }
+            if (end < utf8Constant.length() && end > start + 1
+                    && (utf8Constant.charAt(end) == ';' || utf8Constant.charAt(end) == '<')) {
+                referencedTypes.add(utf8Constant.substring(start + 1, end));
+            }
+            start = utf8Constant.indexOf('L', end);
+        }
+    }
+
+    private static boolean isNameCharacter(final char character) {
+        return character == '/' || character == '$' || Character.isJavaIdentifierPart(character);
+    }
+
+    /**
+     * Get the internal name of the class, for example <code>com/example/Item</code>.
+     *
+     * @return the internal name.
+     */
+    String getClassName() {
+        return className;
+    }
+
+    /**
+     * Get the internal names of the classes that are named in descriptors and signatures of the class.
+     *
+     * @return the internal names.
+     */
+    Set<String> getReferencedTypes() {
+        return referencedTypes;
+    }
+}
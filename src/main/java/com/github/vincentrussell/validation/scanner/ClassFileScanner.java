@@ -0,0 +1,180 @@
+package com.github.vincentrussell.validation.scanner;
+
+import com.github.vincentrussell.validation.annotation.Validation;
+import com.github.vincentrussell.validation.tree.TypeGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the classes to validate by reading class files from jars and directories instead of loading every class.
+ * Only the constant pool of each class file is read.  A class that names {@link Validation} or one of the validator
+ * annotations in its constant pool might have constraints, and only those classes and the classes that name them
+ * are loaded.  The jars and directories are read in parallel.
+ */
+public final class ClassFileScanner {
+
+    /**
+     * Set this system property to true to scan the classpath with reflections instead of reading the class files.
+     */
+    public static final String IGNORE_CLASS_FILES_PROPERTY = "pojo.validation.ignoreClassFiles";
+
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    private static Logger LOGGER = LoggerFactory.getLogger(ClassFileScanner.class);
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Default constructor.
+     *
+     * @param classLoader the class loader that is used to load the classes that are found.
+     */
+    public ClassFileScanner(final ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Find the classes that might have to be validated.
+     *
+     * @param urls        the jars and directories that have the classes.
+     * @param params      the classes or packages (as a string) that should be considered for validation.
+     * @param annotations the validator annotations.
+     * @param knownTypes  classes that are already known to be validated, classes that reach them are loaded too.
+     * @return the classes or null if the class files can not be read and the classpath has to be scanned.
+     * @see ValidationIndex#getPackagePrefixes(Collection)
+     */
+    public Set<Class> getClasses(final Collection<URL> urls, final Collection<?> params,
+                                 final Collection<Class<? extends Annotation>> annotations,
+                                 final Collection<Class> knownTypes) {
+        final Set<String> prefixes = ValidationIndex.getPackagePrefixes(params);
+        if (Boolean.getBoolean(IGNORE_CLASS_FILES_PROPERTY) || prefixes == null || prefixes.isEmpty()) {
+            return null;
+        }
+        final List<Path> locations = new ArrayList<>();
+        for (URL url : urls) {
+            try {
+                locations.add(Paths.get(url.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+                LOGGER.debug("{} is not a file, the classpath will be scanned", url);
+                return null;
+            }
+        }
+
+        final List<ClassFileInfo> classFileInfos;
+        try {
+            classFileInfos = locations.parallelStream()
+                    .flatMap(location -> readLocation(location, prefixes).stream())
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException | IllegalArgumentException e) {
+            LOGGER.warn("could not read the class files, the classpath will be scanned", e);
+            return null;
+        }
+
+        final Set<String> annotationTypes = new HashSet<>();
+        annotationTypes.add(getInternalName(Validation.class));
+        annotations.forEach(annotation -> annotationTypes.add(getInternalName(annotation)));
+        final Set<String> scannedTypes = new HashSet<>();
+        final Set<String> constrainedTypes = new HashSet<>();
+        knownTypes.forEach(knownType -> constrainedTypes.add(getInternalName(knownType)));
+        final TypeGraph<String> typeGraph = new TypeGraph<>(Object.class.getName());
+        for (ClassFileInfo classFileInfo : classFileInfos) {
+            scannedTypes.add(classFileInfo.getClassName());
+            for (String referencedType : classFileInfo.getReferencedTypes()) {
+                typeGraph.addEdge(classFileInfo.getClassName(), referencedType);
+                if (annotationTypes.contains(referencedType)) {
+                    constrainedTypes.add(classFileInfo.getClassName());
+                }
+            }
+        }
+
+        final Set<Class> classes = new HashSet<>();
+        for (String type : typeGraph.getNodesThatReach(constrainedTypes)) {
+            if (scannedTypes.contains(type)) {
+                addClass(classes, type.replace('/', '.'));
+            }
+        }
+        LOGGER.info("read {} class files and loaded {} classes", scannedTypes.size(), classes.size());
+        return classes;
+    }
+
+    private List<ClassFileInfo> readLocation(final Path location, final Set<String> prefixes) {
+        if (Files.isDirectory(location)) {
+            return readClassFiles(location, prefixes);
+        } else if (!Files.isRegularFile(location)) {
+            return Collections.emptyList();
+        }
+        try (FileSystem fileSystem = FileSystems.newFileSystem(location, (ClassLoader) null)) {
+            return readClassFiles(fileSystem.getPath("/"), prefixes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<ClassFileInfo> readClassFiles(final Path root, final Set<String> prefixes) {
+        final List<ClassFileInfo> classFileInfos = new ArrayList<>();
+        for (String prefix : prefixes) {
+            final String directory = prefix.lastIndexOf('.') > 0
+                    ? prefix.substring(0, prefix.lastIndexOf('.')).replace('.', '/') : "";
+            final Path start = root.resolve(directory);
+            if (!Files.isDirectory(start)) {
+                continue;
+            }
+            try (Stream<Path> stream = Files.walk(start)) {
+                for (Path file : (Iterable<Path>) stream::iterator) {
+                    final String relativePath = root.relativize(file).toString().replace('\\', '/');
+                    if (relativePath.endsWith(CLASS_FILE_EXTENSION) && relativePath.replace('/', '.')
+                            .startsWith(prefix)) {
+                        classFileInfos.add(ClassFileInfo.read(readFile(file)));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return classFileInfos;
+    }
+
+    private ByteBuffer readFile(final Path file) throws IOException {
+        if (!FileSystems.getDefault().equals(file.getFileSystem())) {
+            return ByteBuffer.wrap(Files.readAllBytes(file));
+        }
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+        }
+    }
+
+    private static String getInternalName(final Class<?> clazz) {
+        return clazz.getName().replace('.', '/');
+    }
+
+    private void addClass(final Set<Class> classes, final String className) {
+        try {
+            classes.add(Class.forName(className, false, classLoader));
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOGGER.debug("class {} can not be loaded", className, e);
+        }
+    }
+}
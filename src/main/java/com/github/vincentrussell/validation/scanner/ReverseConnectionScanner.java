@@ -1,6 +1,6 @@
 package com.github.vincentrussell.validation.scanner;
 
-import com.github.vincentrussell.validation.tree.TreeNode;
+import com.github.vincentrussell.validation.tree.TypeGraph;
 import org.reflections.Store;
 import org.reflections.scanners.AbstractScanner;
 import org.reflections.util.Utils;
@@ -10,30 +10,18 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.HashMap;
 import java.util.Map;
 
 import static org.reflections.ReflectionUtils.forName;
 
 /**
- * Create a tree structure making the fields children of the class.
+ * Create a graph with edges from the classes to their fields and from the fields to their types.
  */
 public final class ReverseConnectionScanner extends AbstractScanner {
 
     private static Logger LOGGER = LoggerFactory.getLogger(ReverseConnectionScanner.class);
 
-    private final Map<Class, TreeNode<Object>> classToTreeNodeMap = new HashMap<>();
-    private final Map<Field, TreeNode<Object>> fieldToTreeNodeMap = new HashMap<>();
-
-    private final TreeNode<Object> rootTreeNode = new TreeNode<>(Object.class);
-
-    /**
-     * Default constructor.
-     */
-    public ReverseConnectionScanner() {
-        classToTreeNodeMap.put(Object.class, rootTreeNode);
-    }
-
+    private final TypeGraph<Object> typeGraph = new TypeGraph<>(Object.class);
 
     @Override
     public void scan(final Object cls, final Store store) {
@@ -43,14 +31,13 @@ public final class ReverseConnectionScanner extends AbstractScanner {
             return;
         }
 
-        final TreeNode<Object> thisNode = getClassNode(classObject);
-
+        addClassNode(classObject);
 
         for (Object field : getMetadataAdapter().getFields(cls)) {
             final String fieldName = getMetadataAdapter().getFieldName(field);
             final String classAndField = String.format("%s.%s", className, fieldName);
             final Field fieldObj = Utils.getFieldFromString(classAndField, getConfiguration().getClassLoaders());
-            addFieldToTree(thisNode, fieldObj, field);
+            addFieldToGraph(classObject, fieldObj);
             put(store, className, classAndField);
         }
 
@@ -59,71 +46,54 @@ public final class ReverseConnectionScanner extends AbstractScanner {
         }
     }
 
-    private TreeNode<Object> getClassNode(final Class classObject) {
-        final TreeNode<Object> thisNode = classToTreeNodeMap.computeIfAbsent(classObject, aClass -> {
-            final TreeNode<Object> node = new TreeNode<>(classObject);
-            rootTreeNode.addChild(node);
-            return node;
-        });
-
-        return thisNode;
-    }
-
-    private TreeNode<Object> getFieldNode(final Field field) {
-        final TreeNode<Object> thisNode = fieldToTreeNodeMap.computeIfAbsent(field, aClass -> {
-            final TreeNode<Object> node = new TreeNode<>(field);
-            return node;
-        });
-
-        return thisNode;
+    /**
+     * Add the fields of a class that was not found by scanning, for example because it is in the
+     * {@link ValidationIndex}.
+     *
+     * @param classObject the class.
+     */
+    public void scan(final Class classObject) {
+        addClassNode(classObject);
+        for (Field field : classObject.getDeclaredFields()) {
+            addFieldToGraph(classObject, field);
+        }
     }
 
-    private void addFieldToTree(final TreeNode<Object> parentNode, final Field fieldObj, final Object field) {
-        if (Iterable.class.isAssignableFrom(fieldObj.getType())) {
-            addParameterizedTypeToTree(fieldObj, parentNode);
-        } else if (Map.class.isAssignableFrom(fieldObj.getType())) {
-            addParameterizedTypeToTree(fieldObj, parentNode);
-        } else {
-            TreeNode fieldNode = getFieldNode(fieldObj);
-            parentNode.addChild(fieldNode);
-            LOGGER.debug("adding child node parent={}, child={}", parentNode, fieldNode);
-            TreeNode actualTypeNode = getClassNode(fieldObj.getType());
-            fieldNode.addChild(actualTypeNode);
-            LOGGER.debug("adding child node parent={}, child={}", fieldNode, actualTypeNode);
+    private void addClassNode(final Class classObject) {
+        if (!Object.class.equals(classObject)) {
+            typeGraph.addEdge(Object.class, classObject);
         }
     }
 
-    private void addParameterizedTypeToTree(final Field fieldObj, final TreeNode<Object> parentNode) {
+    private void addFieldToGraph(final Class classObject, final Field fieldObj) {
         final Type type = fieldObj.getGenericType();
-        if (ParameterizedType.class.isInstance(type)) {
+        if ((Iterable.class.isAssignableFrom(fieldObj.getType()) || Map.class.isAssignableFrom(fieldObj.getType()))
+                && ParameterizedType.class.isInstance(type)) {
             for (Type actualType : ((ParameterizedType) type).getActualTypeArguments()) {
                 if (Class.class.isInstance(actualType)) {
-                    final  TreeNode fieldNode = getFieldNode(fieldObj);
-                    parentNode.addChild(fieldNode);
-                    LOGGER.debug("adding child node parent={}, child={}", parentNode, fieldNode);
-                    TreeNode actualTypeNode = getClassNode((Class) actualType);
-                    fieldNode.addChild(actualTypeNode);
-                    LOGGER.debug("adding child node parent={}, child={}", fieldNode, actualTypeNode);
+                    addFieldEdges(classObject, fieldObj, (Class) actualType);
                 }
-
             }
         } else {
-            final TreeNode fieldNode = getFieldNode(fieldObj);
-            parentNode.addChild(fieldNode);
-            LOGGER.debug("adding child node parent={}, child={}", parentNode, fieldNode);
-            TreeNode actualTypeNode = getClassNode(fieldObj.getType());
-            fieldNode.addChild(actualTypeNode);
-            LOGGER.debug("adding child node parent={}, child={}", fieldNode, actualTypeNode);
+            addFieldEdges(classObject, fieldObj, fieldObj.getType());
         }
     }
 
+    private void addFieldEdges(final Class classObject, final Field fieldObj, final Class actualType) {
+        typeGraph.addEdge(classObject, fieldObj);
+        addClassNode(actualType);
+        typeGraph.addEdge(fieldObj, actualType);
+        LOGGER.debug("adding edges {} -> {} -> {}", classObject, fieldObj, actualType);
+    }
+
     /**
-     * get the tree of the classes and fields.
+     * get the graph of the classes and fields.  The root is {@link Object}, it has an edge to every class.  Classes
+     * have edges to their fields and fields have edges to their type or to the type arguments of collections and
+     * maps.
      *
-     * @return the tree
+     * @return the graph
      */
-    public TreeNode<Object> getRootTreeNode() {
-        return rootTreeNode;
+    public TypeGraph<Object> getTypeGraph() {
+        return typeGraph;
     }
 }
-
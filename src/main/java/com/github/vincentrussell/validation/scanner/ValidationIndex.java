@@ -0,0 +1,272 @@
+package com.github.vincentrussell.validation.scanner;
+
+import com.github.vincentrussell.validation.annotation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * The classes that the {@link com.github.vincentrussell.validation.processor.ValidationIndexProcessor} found at
+ * compile time.  Every jar or directory that was compiled with the processor has its own index, and only the jars and
+ * directories without an index have to be scanned.
+ * <p>
+ * The processor only sees the classes of one jar or directory, so a class that reaches a validated class of another
+ * jar is not in its index.  The graphs of every indexed jar and directory are merged when the index is loaded and the
+ * classes that reach a validated class are found again over all of them.
+ */
+public final class ValidationIndex {
+
+    /**
+     * Where the index is stored on the classpath.
+     */
+    public static final String INDEX_LOCATION = "META-INF/pojo-validation/validation.idx";
+
+    /**
+     * Where the classes that the fields of every compiled class reference are stored on the classpath.  Every line
+     * is {@link #VALIDATED} or {@link #NOT_VALIDATED}, the class and the classes that its fields reference, separated
+     * by spaces.
+     */
+    public static final String GRAPH_LOCATION = "META-INF/pojo-validation/validation.graph";
+
+    /**
+     * The marker of a class in the graph that has a validated field.
+     */
+    public static final String VALIDATED = "+";
+
+    /**
+     * The marker of a class in the graph without a validated field.
+     */
+    public static final String NOT_VALIDATED = "-";
+
+    /**
+     * Set this system property to true to always scan the classpath.
+     */
+    public static final String IGNORE_INDEX_PROPERTY = "pojo.validation.ignoreIndex";
+
+    private static Logger LOGGER = LoggerFactory.getLogger(ValidationIndex.class);
+
+    private static final String JAR_URL_PREFIX = "jar:";
+    private static final String JAR_URL_SEPARATOR = "!/";
+
+    private final ClassLoader classLoader;
+    //the compiled class names of every jar or directory that has an index
+    private final Map<String, Set<String>> rootToClassNames;
+    //the classes of every indexed jar and directory whose fields reference a class
+    private final Map<String, Set<String>> typeToReferencingTypes;
+    //the classes that are validated or reach a validated class in any indexed jar or directory
+    private final Set<String> indexedClassNames;
+
+    private ValidationIndex(final ClassLoader classLoader, final Map<String, Set<String>> rootToClassNames,
+                            final Map<String, Set<String>> typeToReferencingTypes,
+                            final Set<String> validatedClassNames) {
+        this.classLoader = classLoader;
+        this.rootToClassNames = rootToClassNames;
+        this.typeToReferencingTypes = typeToReferencingTypes;
+        this.indexedClassNames = getReachingClassNames(validatedClassNames);
+    }
+
+    /**
+     * Read every index that the class loader can find.
+     *
+     * @param classLoader the class loader that is used to find the indexes and to load the classes.
+     * @return the {@link ValidationIndex}.  It is empty if there are no indexes or if they are ignored.
+     */
+    public static ValidationIndex load(final ClassLoader classLoader) {
+        final Map<String, Set<String>> rootToClassNames = new HashMap<>();
+        final Map<String, Set<String>> typeToReferencingTypes = new HashMap<>();
+        final Set<String> validatedClassNames = new HashSet<>();
+        if (Boolean.getBoolean(IGNORE_INDEX_PROPERTY)) {
+            return new ValidationIndex(classLoader, rootToClassNames, typeToReferencingTypes, validatedClassNames);
+        }
+        try {
+            final Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+            while (urls.hasMoreElements()) {
+                final URL url = urls.nextElement();
+                LOGGER.debug("reading validation index {}", url);
+                final Set<String> classNames = rootToClassNames.computeIfAbsent(getRoot(url, INDEX_LOCATION),
+                        s -> new TreeSet<>());
+                //an indexed class is validated or reaches a validated class on its own
+                readLines(url, line -> {
+                    classNames.add(line);
+                    validatedClassNames.add(line);
+                });
+            }
+            final Enumeration<URL> graphUrls = classLoader.getResources(GRAPH_LOCATION);
+            while (graphUrls.hasMoreElements()) {
+                final URL url = graphUrls.nextElement();
+                final Set<String> classNames = rootToClassNames.get(getRoot(url, GRAPH_LOCATION));
+                if (classNames == null) {
+                    continue;
+                }
+                LOGGER.debug("reading validation graph {}", url);
+                readLines(url, line -> {
+                    final String[] parts = line.split(" ");
+                    if (parts.length < 2) {
+                        return;
+                    }
+                    classNames.add(parts[1]);
+                    if (VALIDATED.equals(parts[0])) {
+                        validatedClassNames.add(parts[1]);
+                    }
+                    for (int i = 2; i < parts.length; i++) {
+                        typeToReferencingTypes.computeIfAbsent(parts[i], s -> new HashSet<>()).add(parts[1]);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            LOGGER.warn(String.format("could not read %s, the classpath will be scanned", INDEX_LOCATION), e);
+            rootToClassNames.clear();
+        }
+        return new ValidationIndex(classLoader, rootToClassNames, typeToReferencingTypes, validatedClassNames);
+    }
+
+    private static void readLines(final URL url, final Consumer<String> lineConsumer) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    lineConsumer.accept(line.trim());
+                }
+            }
+        }
+    }
+
+    //the classes and every class of the graphs that reaches one of them through its fields
+    private Set<String> getReachingClassNames(final Set<String> classNames) {
+        final Set<String> reachingClassNames = new HashSet<>(classNames);
+        final Deque<String> queue = new ArrayDeque<>(classNames);
+        while (!queue.isEmpty()) {
+            for (String referencingType : typeToReferencingTypes.getOrDefault(queue.poll(),
+                    Collections.emptySet())) {
+                if (reachingClassNames.add(referencingType)) {
+                    queue.add(referencingType);
+                }
+            }
+        }
+        return reachingClassNames;
+    }
+
+    //the jar or directory of the resource, in the form that reflections uses for the urls of the classpath
+    private static String getRoot(final URL resourceUrl, final String location) {
+        String root = resourceUrl.toExternalForm();
+        root = root.substring(0, root.length() - location.length());
+        if (root.startsWith(JAR_URL_PREFIX) && root.endsWith(JAR_URL_SEPARATOR)) {
+            root = root.substring(JAR_URL_PREFIX.length(), root.length() - JAR_URL_SEPARATOR.length());
+        }
+        return root;
+    }
+
+    /**
+     * Check if a jar or directory of the classpath has an index.  The processor writes the index of every class that
+     * it compiled, so a jar or directory without one has to be scanned.
+     *
+     * @param url the url of the jar or directory.
+     * @return true if it has an index.
+     */
+    public boolean isIndexed(final URL url) {
+        return rootToClassNames.containsKey(url.toExternalForm());
+    }
+
+    /**
+     * Get the package prefixes for the parameters of the
+     * {@link com.github.vincentrussell.validation.ValidationService}.  Packages (as strings) and classes are
+     * supported.  A class means the package of that class.  Annotations with the {@link Validator} annotation are
+     * skipped because they are passed in to register them.
+     *
+     * @param params the classes or packages (as a string) that should be considered for validation.
+     * @return the prefixes of the class names or null if one of the parameters is not supported.
+     */
+    public static Set<String> getPackagePrefixes(final Collection<?> params) {
+        final Set<String> prefixes = new HashSet<>();
+        for (Object param : params) {
+            if (String.class.isInstance(param)) {
+                prefixes.add((String) param);
+            } else if (Class.class.isInstance(param) && ((Class) param).isAnnotation()
+                    && ((Class) param).isAnnotationPresent(Validator.class)) {
+                continue;
+            } else if (Class.class.isInstance(param) && ((Class) param).getPackage() != null) {
+                prefixes.add(((Class) param).getPackage().getName() + ".");
+            } else {
+                LOGGER.debug("parameter {} is not a package or a class", param);
+                return null;
+            }
+        }
+        return prefixes;
+    }
+
+    /**
+     * Get the indexed classes of the jars and directories that have an index.  The jars and directories without an
+     * index are skipped, see {@link #isIndexed(URL)}.
+     *
+     * @param urls   the jars and directories that have the classes.
+     * @param params the classes or packages (as a string) that should be considered for validation.
+     * @return the classes or null if one of the parameters is not supported and the classpath has to be scanned.
+     * @see #getPackagePrefixes(Collection)
+     */
+    public Set<Class> getClasses(final Collection<URL> urls, final Collection<?> params) {
+        return getClasses(urls, params, Collections.emptySet());
+    }
+
+    /**
+     * Get the indexed classes of the jars and directories that have an index and the indexed classes that reach
+     * classes which were found without the index.  The jars and directories without an index are skipped, see
+     * {@link #isIndexed(URL)}.
+     *
+     * @param urls       the jars and directories that have the classes.
+     * @param params     the classes or packages (as a string) that should be considered for validation.
+     * @param knownTypes classes that are known to be validated or to reach a validated class.
+     * @return the classes or null if one of the parameters is not supported and the classpath has to be scanned.
+     * @see #getPackagePrefixes(Collection)
+     */
+    public Set<Class> getClasses(final Collection<URL> urls, final Collection<?> params,
+                                 final Collection<Class> knownTypes) {
+        final Set<String> prefixes = getPackagePrefixes(params);
+        if (prefixes == null || prefixes.isEmpty()) {
+            return null;
+        }
+
+        final Set<String> classNames;
+        if (knownTypes.isEmpty()) {
+            classNames = indexedClassNames;
+        } else {
+            final Set<String> knownClassNames = new HashSet<>(indexedClassNames);
+            knownTypes.forEach(knownType -> knownClassNames.add(knownType.getName()));
+            classNames = getReachingClassNames(knownClassNames);
+        }
+        final Set<Class> classes = new HashSet<>();
+        for (URL url : urls) {
+            for (String className : rootToClassNames.getOrDefault(url.toExternalForm(),
+                    Collections.emptySet())) {
+                if (classNames.contains(className) && prefixes.stream().anyMatch(className::startsWith)) {
+                    addClass(classes, className);
+                }
+            }
+        }
+        return classes;
+    }
+
+    private void addClass(final Set<Class> classes, final String className) {
+        try {
+            classes.add(Class.forName(className, false, classLoader));
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOGGER.debug("indexed class {} can not be loaded", className, e);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.github.vincentrussell.validation.snapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+/**
+ * A file where the {@link com.github.vincentrussell.validation.ValidationService} stores what it found on startup.
+ * Pass it to the constructor of the {@link com.github.vincentrussell.validation.ValidationService} together with the
+ * packages or classes.  The file is written after the classpath was scanned.  On the next start it is read with a
+ * memory mapped read instead of scanning again, as long as the fingerprint of the scanned jars and class files and
+ * of the parameters is still the same.
+ */
+public final class MetadataSnapshot {
+
+    private static final int MAGIC = 0x50565331;
+    private static final int VERSION = 1;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int NIBBLE = 4;
+    private static final int NIBBLE_MASK = 0xf;
+
+    private static Logger LOGGER = LoggerFactory.getLogger(MetadataSnapshot.class);
+
+    private final Path path;
+
+    /**
+     * Default constructor.
+     *
+     * @param path the file for the snapshot.  It is created if it doesn't exist.
+     */
+    public MetadataSnapshot(final Path path) {
+        notNull(path, "the passed in path is null");
+        this.path = path;
+    }
+
+    /**
+     * Get the file for the snapshot.
+     *
+     * @return the path.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Create the fingerprint for the scanned locations.  The size and the last modified time of jars and of every
+     * file in directories are part of the fingerprint, so a changed class file results in a new fingerprint.
+     *
+     * @param urls   the jars and directories that are scanned.
+     * @param params the parameters of the {@link com.github.vincentrussell.validation.ValidationService}.
+     * @return the fingerprint.
+     */
+    public static String fingerprint(final Collection<URL> urls, final Collection<?> params) {
+        final MessageDigest messageDigest = createMessageDigest();
+        update(messageDigest, String.valueOf(VERSION));
+        params.stream().map(param -> Class.class.isInstance(param) ? "class:" + ((Class) param).getName()
+                : String.valueOf(param)).sorted().forEach(param -> update(messageDigest, param));
+        urls.stream().map(URL::toExternalForm).sorted().forEach(url -> {
+            update(messageDigest, url);
+            updateWithFiles(messageDigest, url);
+        });
+        final byte[] bytes = messageDigest.digest();
+        final StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(HEX[(b >> NIBBLE) & NIBBLE_MASK]).append(HEX[b & NIBBLE_MASK]);
+        }
+        return builder.toString();
+    }
+
+    private static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static void update(final MessageDigest messageDigest, final String value) {
+        messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+    }
+
+    private static void updateWithFiles(final MessageDigest messageDigest, final String url) {
+        final Path location;
+        try {
+            location = Paths.get(new URL(url).toURI());
+        } catch (IOException | URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+            LOGGER.debug("{} is not a file and is only fingerprinted by its url", url);
+            return;
+        }
+        if (Files.isDirectory(location)) {
+            try (Stream<Path> stream = Files.walk(location)) {
+                final List<Path> files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                for (Path file : files) {
+                    update(messageDigest, location.relativize(file).toString());
+                    updateWithAttributes(messageDigest, file);
+                }
+            } catch (IOException e) {
+                update(messageDigest, e.toString());
+            }
+        } else {
+            updateWithAttributes(messageDigest, location);
+        }
+    }
+
+    private static void updateWithAttributes(final MessageDigest messageDigest, final Path file) {
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            update(messageDigest, attributes.size() + ":" + attributes.lastModifiedTime().toMillis());
+        } catch (IOException e) {
+            update(messageDigest, "missing");
+        }
+    }
+
+    /**
+     * Read the snapshot.
+     *
+     * @param fingerprint the fingerprint that the snapshot must have.
+     * @return the payload or null if there is no snapshot, it can't be read or the fingerprint doesn't match.
+     */
+    public SnapshotInput read(final String fingerprint) {
+        if (!Files.isRegularFile(path)) {
+            LOGGER.info("there is no metadata snapshot at {}", path);
+            return null;
+        }
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final SnapshotInput snapshotInput = new SnapshotInput(
+                    fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+            if (snapshotInput.readInt() != MAGIC || snapshotInput.readInt() != VERSION
+                    || !fingerprint.equals(snapshotInput.readString())) {
+                LOGGER.info("the metadata snapshot at {} is out of date", path);
+                return null;
+            }
+            return snapshotInput;
+        } catch (IOException | IllegalStateException e) {
+            LOGGER.warn(String.format("the metadata snapshot at %s can not be read", path), e);
+            return null;
+        }
+    }
+
+    /**
+     * Start the payload for a new snapshot.
+     *
+     * @param fingerprint the fingerprint of the snapshot.
+     * @return the {@link SnapshotOutput} to write the payload to.
+     * @throws IOException if the header can't be written.
+     */
+    public SnapshotOutput createOutput(final String fingerprint) throws IOException {
+        final SnapshotOutput snapshotOutput = new SnapshotOutput();
+        snapshotOutput.writeInt(MAGIC);
+        snapshotOutput.writeInt(VERSION);
+        snapshotOutput.writeString(fingerprint);
+        return snapshotOutput;
+    }
+
+    /**
+     * Replace the snapshot file with the payload.  Readers never see a partially written file.
+     *
+     * @param snapshotOutput the payload that was started with {@link #createOutput(String)}.
+     * @throws IOException if the file can't be written.
+     */
+    public void write(final SnapshotOutput snapshotOutput) throws IOException {
+        final Path directory = path.toAbsolutePath().getParent();
+        if (directory == null) {
+            throw new IOException(String.format("%s is not a file", path));
+        }
+        Files.createDirectories(directory);
+        final Path temporaryFile = Files.createTempFile(directory, String.valueOf(path.getFileName()), ".tmp");
+        try {
+            Files.write(temporaryFile, snapshotOutput.toByteArray());
+            try {
+                Files.move(temporaryFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        LOGGER.info("wrote metadata snapshot to {}", path);
+    }
+
+    @Override
+    public String toString() {
+        return "MetadataSnapshot{path=" + path + '}';
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.vincentrussell.validation.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the payload of a {@link MetadataSnapshot} that was written by {@link SnapshotOutput}.  A damaged payload
+ * results in an {@link IllegalStateException}.
+ */
+public final class SnapshotInput {
+
+    private final ByteBuffer byteBuffer;
+
+    /**
+     * Default constructor.
+     *
+     * @param byteBuffer the payload.
+     */
+    public SnapshotInput(final ByteBuffer byteBuffer) {
+        this.byteBuffer = byteBuffer;
+    }
+
+    /**
+     * Read an int.
+     *
+     * @return the value.
+     */
+    public int readInt() {
+        checkRemaining(Integer.BYTES);
+        return byteBuffer.getInt();
+    }
+
+    /**
+     * Read a string that can be null.
+     *
+     * @return the value.
+     */
+    public String readString() {
+        final int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        checkRemaining(length);
+        final byte[] bytes = new byte[length];
+        byteBuffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read strings that were written with {@link SnapshotOutput#writeStrings(java.util.Collection)}.
+     *
+     * @return the strings.
+     */
+    public List<String> readStrings() {
+        final int size = readInt();
+        final List<String> values = new ArrayList<>(Math.max(size, 0));
+        for (int i = 0; i < size; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    /**
+     * Read a value that was written with {@link SnapshotOutput#writeValue(Object)}.
+     *
+     * @return the value.
+     */
+    public Object readValue() {
+        checkRemaining(1);
+        final byte type = byteBuffer.get();
+        switch (type) {
+            case SnapshotOutput.NULL:
+                return null;
+            case SnapshotOutput.STRING:
+                return readString();
+            case SnapshotOutput.BOOLEAN:
+                checkRemaining(1);
+                return byteBuffer.get() != 0;
+            case SnapshotOutput.INTEGER:
+                return readInt();
+            case SnapshotOutput.LONG:
+                checkRemaining(Long.BYTES);
+                return byteBuffer.getLong();
+            case SnapshotOutput.DOUBLE:
+                checkRemaining(Double.BYTES);
+                return byteBuffer.getDouble();
+            case SnapshotOutput.STRING_ARRAY:
+                return readStrings().toArray(new String[0]);
+            default:
+                throw new IllegalStateException(String.format("unknown value type %s in snapshot", type));
+        }
+    }
+
+    private void checkRemaining(final int length) {
+        if (byteBuffer.remaining() < length) {
+            throw new IllegalStateException("the snapshot is truncated");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.vincentrussell.validation.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Writes the payload of a {@link MetadataSnapshot}.  Strings are written as a length and utf-8 bytes, a length of
+ * -1 means null.  It can be read again with {@link SnapshotInput}.
+ */
+public final class SnapshotOutput {
+
+    static final byte NULL = 0;
+    static final byte STRING = 1;
+    static final byte BOOLEAN = 2;
+    static final byte INTEGER = 3;
+    static final byte LONG = 4;
+    static final byte DOUBLE = 5;
+    static final byte STRING_ARRAY = 6;
+
+    private final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    private final DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+
+    /**
+     * Write an int.
+     *
+     * @param value the value.
+     * @throws IOException if the value can't be written.
+     */
+    public void writeInt(final int value) throws IOException {
+        dataOutputStream.writeInt(value);
+    }
+
+    /**
+     * Write a string that can be null.
+     *
+     * @param value the value.
+     * @throws IOException if the value can't be written.
+     */
+    public void writeString(final String value) throws IOException {
+        if (value == null) {
+            dataOutputStream.writeInt(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        dataOutputStream.writeInt(bytes.length);
+        dataOutputStream.write(bytes);
+    }
+
+    /**
+     * Write the size of the strings and then the strings.
+     *
+     * @param values the strings or null for none.
+     * @throws IOException if the values can't be written.
+     */
+    public void writeStrings(final Collection<String> values) throws IOException {
+        if (values == null) {
+            dataOutputStream.writeInt(0);
+            return;
+        }
+        dataOutputStream.writeInt(values.size());
+        for (String value : values) {
+            writeString(value);
+        }
+    }
+
+    /**
+     * Write a value from an annotation.  Strings, booleans, ints, longs, doubles and string arrays are supported.
+     *
+     * @param value the value.
+     * @throws IOException if the value can't be written.
+     * @throws IllegalArgumentException if the type of the value is not supported.
+     */
+    public void writeValue(final Object value) throws IOException {
+        if (value == null) {
+            dataOutputStream.writeByte(NULL);
+        } else if (String.class.isInstance(value)) {
+            dataOutputStream.writeByte(STRING);
+            writeString((String) value);
+        } else if (Boolean.class.isInstance(value)) {
+            dataOutputStream.writeByte(BOOLEAN);
+            dataOutputStream.writeBoolean((Boolean) value);
+        } else if (Integer.class.isInstance(value)) {
+            dataOutputStream.writeByte(INTEGER);
+            dataOutputStream.writeInt((Integer) value);
+        } else if (Long.class.isInstance(value)) {
+            dataOutputStream.writeByte(LONG);
+            dataOutputStream.writeLong((Long) value);
+        } else if (Double.class.isInstance(value)) {
+            dataOutputStream.writeByte(DOUBLE);
+            dataOutputStream.writeDouble((Double) value);
+        } else if (String[].class.isInstance(value)) {
+            dataOutputStream.writeByte(STRING_ARRAY);
+            dataOutputStream.writeInt(((String[]) value).length);
+            for (String string : (String[]) value) {
+                writeString(string);
+            }
+        } else {
+            throw new IllegalArgumentException(String.format("values of %s can not be written to a snapshot",
+                    value.getClass()));
+        }
+    }
+
+    /**
+     * Get what has been written.
+     *
+     * @return the bytes.
+     * @throws IOException if the bytes can't be flushed.
+     */
+    public byte[] toByteArray() throws IOException {
+        dataOutputStream.flush();
+        return byteArrayOutputStream.toByteArray();
+    }
+}
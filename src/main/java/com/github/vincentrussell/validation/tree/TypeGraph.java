@@ -0,0 +1,202 @@
+package com.github.vincentrussell.validation.tree;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+/**
+ * A directed graph of classes and fields.  Every node is stored once and the edges are kept as sets in both
+ * directions, so adding a node or an edge that already exists changes nothing.  The depth of the nodes is only
+ * computed when it is asked for.
+ *
+ * @param <T> the type of the nodes in this graph.
+ */
+public final class TypeGraph<T> {
+
+    private final T root;
+    private final Map<T, Set<T>> successors = new LinkedHashMap<>();
+    private final Map<T, Set<T>> predecessors = new HashMap<>();
+    private int edgeCount;
+    private Map<T, Integer> depths;
+
+    /**
+     * Default constructor.
+     *
+     * @param root the node that the depth of the other nodes is measured from.
+     */
+    public TypeGraph(final T root) {
+        notNull(root, "the passed in root is null");
+        this.root = root;
+        addNode(root);
+    }
+
+    /**
+     * Get the node that the depth of the other nodes is measured from.
+     *
+     * @return the root node.
+     */
+    public T getRoot() {
+        return root;
+    }
+
+    /**
+     * Add a node to the graph.
+     *
+     * @param node the node.
+     * @return true if the node was not in the graph yet.
+     */
+    public boolean addNode(final T node) {
+        notNull(node, "the passed in node is null");
+        if (successors.containsKey(node)) {
+            return false;
+        }
+        successors.put(node, new LinkedHashSet<>());
+        predecessors.put(node, new LinkedHashSet<>());
+        depths = null;
+        return true;
+    }
+
+    /**
+     * Add an edge to the graph.  Nodes that are not in the graph yet are added.
+     *
+     * @param from the node where the edge starts.
+     * @param to   the node where the edge ends.
+     * @return true if the edge was not in the graph yet.
+     */
+    public boolean addEdge(final T from, final T to) {
+        addNode(from);
+        addNode(to);
+        if (!successors.get(from).add(to)) {
+            return false;
+        }
+        predecessors.get(to).add(from);
+        edgeCount++;
+        depths = null;
+        return true;
+    }
+
+    /**
+     * Check if a node is in the graph.
+     *
+     * @param node the node.
+     * @return true if the node is in the graph.
+     */
+    public boolean contains(final T node) {
+        return successors.containsKey(node);
+    }
+
+    /**
+     * Get every node in the order that they were added.
+     *
+     * @return the nodes.
+     */
+    public Set<T> getNodes() {
+        return Collections.unmodifiableSet(successors.keySet());
+    }
+
+    /**
+     * Get the nodes that a node has an edge to.
+     *
+     * @param node the node.
+     * @return the successors or an empty set if the node is not in the graph.
+     */
+    public Set<T> getSuccessors(final T node) {
+        return Collections.unmodifiableSet(successors.getOrDefault(node, Collections.emptySet()));
+    }
+
+    /**
+     * Get the nodes that have an edge to a node.
+     *
+     * @param node the node.
+     * @return the predecessors or an empty set if the node is not in the graph.
+     */
+    public Set<T> getPredecessors(final T node) {
+        return Collections.unmodifiableSet(predecessors.getOrDefault(node, Collections.emptySet()));
+    }
+
+    /**
+     * Get the number of nodes.
+     *
+     * @return the number of nodes.
+     */
+    public int getNodeCount() {
+        return successors.size();
+    }
+
+    /**
+     * Get the number of edges.
+     *
+     * @return the number of edges.
+     */
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Find every node that has a path to one of the targets.  The edges are followed backwards from the targets, so
+     * every node and edge is visited at most once and cycles need no special handling.
+     *
+     * @param targets the nodes that should be reached.
+     * @return the targets that are in the graph and every node that reaches one of them.
+     */
+    public Set<T> getNodesThatReach(final Collection<? extends T> targets) {
+        final Set<T> result = new LinkedHashSet<>();
+        final Deque<T> queue = new ArrayDeque<>();
+        for (T target : targets) {
+            if (contains(target) && result.add(target)) {
+                queue.add(target);
+            }
+        }
+        while (!queue.isEmpty()) {
+            for (T predecessor : predecessors.get(queue.poll())) {
+                if (result.add(predecessor)) {
+                    queue.add(predecessor);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of edges on the shortest path from the root to a node.  The depths of all nodes are computed
+     * the first time and kept until the graph changes.
+     *
+     * @param node the node.
+     * @return the depth or -1 if the node can not be reached from the root.
+     */
+    public int getDepth(final T node) {
+        if (depths == null) {
+            depths = computeDepths();
+        }
+        return depths.getOrDefault(node, -1);
+    }
+
+    private Map<T, Integer> computeDepths() {
+        final Map<T, Integer> result = new HashMap<>();
+        final Deque<T> queue = new ArrayDeque<>(Collections.singleton(root));
+        result.put(root, 0);
+        while (!queue.isEmpty()) {
+            final T node = queue.poll();
+            final int depth = result.get(node) + 1;
+            for (T successor : successors.get(node)) {
+                if (result.putIfAbsent(successor, depth) == null) {
+                    queue.add(successor);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TypeGraph{root=" + root + ", nodes=" + getNodeCount() + ", edges=" + edgeCount + '}';
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.vincentrussell.validation.util;
+
+import java.lang.reflect.Field;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+/**
+ * A map that stores every entry with the class that its key belongs to.  A class belongs to itself and a field
+ * belongs to the class that declares it.  The entries are kept in a {@link ClassValue} and the classes are only
+ * weakly referenced, so the map doesn't keep a class loader alive: once the classes of a class loader can be
+ * collected, their entries go away with them.
+ * <p>
+ * Reading an entry doesn't lock.  Changing the map is not thread safe, a map that is read by other threads should
+ * not be changed after it was published.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public final class ClassScopedMap<K, V> extends AbstractMap<K, V> {
+
+    private final Function<? super K, Class<?>> owner;
+    private final ClassValue<Map<K, V>> entries = new ClassValue<Map<K, V>>() {
+        @Override
+        protected Map<K, V> computeValue(final Class<?> type) {
+            return new HashMap<>();
+        }
+    };
+    private final Map<Class<?>, Boolean> owners = new WeakHashMap<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param owner the function that finds the class that a key belongs to.
+     */
+    public ClassScopedMap(final Function<? super K, Class<?>> owner) {
+        notNull(owner, "the passed in owner is null");
+        this.owner = owner;
+    }
+
+    /**
+     * Create a map with classes as keys.
+     *
+     * @param <V> the type of the values.
+     * @return the {@link ClassScopedMap}.
+     */
+    public static <V> ClassScopedMap<Class, V> forClasses() {
+        return new ClassScopedMap<>(clazz -> clazz);
+    }
+
+    /**
+     * Create a map with fields as keys.
+     *
+     * @param <V> the type of the values.
+     * @return the {@link ClassScopedMap}.
+     */
+    public static <V> ClassScopedMap<Field, V> forFields() {
+        return new ClassScopedMap<>(Field::getDeclaringClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<K, V> getEntries(final Object key) {
+        //not Validate.notNull, its varargs would allocate on every lookup
+        if (key == null) {
+            throw new NullPointerException("the passed in key is null");
+        }
+        return entries.get(owner.apply((K) key));
+    }
+
+    @Override
+    public V get(final Object key) {
+        return getEntries(key).get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return getEntries(key).containsKey(key);
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        final Class<?> ownerClass = owner.apply(key);
+        synchronized (owners) {
+            owners.put(ownerClass, Boolean.TRUE);
+        }
+        return entries.get(ownerClass).put(key, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(final Object key) {
+        final Map<K, V> ownerEntries = getEntries(key);
+        final V value = ownerEntries.remove(key);
+        if (ownerEntries.isEmpty()) {
+            synchronized (owners) {
+                owners.remove(owner.apply((K) key));
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        for (Class<?> ownerClass : getOwners()) {
+            entries.remove(ownerClass);
+        }
+        synchronized (owners) {
+            owners.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Class<?> ownerClass : getOwners()) {
+            size += entries.get(ownerClass).size();
+        }
+        return size;
+    }
+
+    private List<Class<?>> getOwners() {
+        synchronized (owners) {
+            return new ArrayList<>(owners.keySet());
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                final List<Entry<K, V>> snapshot = new ArrayList<>();
+                for (Class<?> ownerClass : getOwners()) {
+                    for (Entry<K, V> entry : entries.get(ownerClass).entrySet()) {
+                        snapshot.add(new SimpleImmutableEntry<>(entry));
+                    }
+                }
+                final Iterator<Entry<K, V>> iterator = snapshot.iterator();
+                return new Iterator<Entry<K, V>>() {
+                    private Entry<K, V> current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        current = iterator.next();
+                        return current;
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) {
+                            throw new IllegalStateException("next was not called");
+                        }
+                        ClassScopedMap.this.remove(current.getKey());
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return ClassScopedMap.this.size();
+            }
+        };
+    }
+}
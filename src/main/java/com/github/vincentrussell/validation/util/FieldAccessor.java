@@ -0,0 +1,128 @@
+package com.github.vincentrussell.validation.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Reads the value of a field through a {@link java.lang.invoke.MethodHandle} that is created once.  Unlike
+ * {@link ReflectionUtils#getValue(Field, Object)} there are no access checks on each read.  The handles are instance
+ * fields here, which the JIT doesn't treat as constants, so the generated plan executors copy them into static final
+ * fields where the reads can be inlined.
+ */
+public final class FieldAccessor {
+
+    private static final MethodType OBJECT_GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType LONG_GETTER_TYPE = MethodType.methodType(long.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle longGetter;
+
+    private FieldAccessor(final Field field, final MethodHandle getter, final MethodHandle longGetter) {
+        this.field = field;
+        this.getter = getter;
+        this.longGetter = longGetter;
+    }
+
+    /**
+     * Create a {@link FieldAccessor} for a field.
+     *
+     * @param field the field to read.
+     * @return the {@link FieldAccessor}.
+     */
+    public static FieldAccessor of(final Field field) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflectGetter(ReflectionUtils.makeAccessible(field));
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return new FieldAccessor(field, handle.asType(OBJECT_GETTER_TYPE),
+                    isIntegral(field.getType()) ? handle.asType(LONG_GETTER_TYPE) : null);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(String.format("field %s can not be accessed", field), e);
+        }
+    }
+
+    private static boolean isIntegral(final Class<?> type) {
+        return type == long.class || type == int.class || type == short.class || type == byte.class;
+    }
+
+    /**
+     * Get the field.
+     *
+     * @return the field.
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Get the handle that reads the field as an {@link Object}, its type is <code>(Object)Object</code>.
+     *
+     * @return the {@link MethodHandle}.
+     */
+    public MethodHandle getGetter() {
+        return getter;
+    }
+
+    /**
+     * Get the handle that reads an integral primitive field as a long, its type is <code>(Object)long</code>.
+     *
+     * @return the {@link MethodHandle} or null if the field is not an integral primitive.
+     */
+    public MethodHandle getLongGetter() {
+        return longGetter;
+    }
+
+    /**
+     * Get a value for the field.
+     *
+     * @param object the object that contains the field
+     * @return the value at that field, boxed if the field is a primitive.
+     */
+    public Object get(final Object object) {
+        try {
+            return (Object) getter.invokeExact(object);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t.getMessage(), t);
+        }
+    }
+
+    /**
+     * Whether the field is a long, int, short or byte that can be read with {@link #getLong(Object)}.
+     *
+     * @return true if the field can be read without boxing.
+     */
+    public boolean isLongReadable() {
+        return longGetter != null;
+    }
+
+    /**
+     * Get the value of an integral primitive field without boxing it.
+     *
+     * @param object the object that contains the field
+     * @return the value at that field.
+     */
+    public long getLong(final Object object) {
+        if (longGetter == null) {
+            throw new UnsupportedOperationException(String.format("field %s is not an integral primitive", field));
+        }
+        try {
+            return (long) longGetter.invokeExact(object);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t.getMessage(), t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return field.toString();
+    }
+}
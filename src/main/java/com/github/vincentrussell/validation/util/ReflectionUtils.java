@@ -59,12 +59,19 @@ public final class ReflectionUtils {
         return field.get(object);
     }
 
-    private static void makeAccessible(final Field field) {
+    /**
+     * Make a field accessible if it isn't public.
+     *
+     * @param field the field to make accessible
+     * @return the field that was passed in.
+     */
+    public static Field makeAccessible(final Field field) {
         if ((!Modifier.isPublic(field.getModifiers())
                 || !Modifier.isPublic(field.getDeclaringClass().getModifiers())
                 || Modifier.isFinal(field.getModifiers())) && !field.isAccessible()) {
             field.setAccessible(true);
         }
+        return field;
     }
 
 }
@@ -1,18 +1,26 @@
 package com.github.vincentrussell.validation.util;
 
+import com.github.vincentrussell.validation.MessageTemplate;
 import com.github.vincentrussell.validation.ValidationError;
+import com.github.vincentrussell.validation.Violation;
 
 import java.math.BigDecimal;
-import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.time.chrono.ChronoLocalDateTime;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Map;
 
 public final class ValidationUtils {
 
+    private static final int NOT_A_DATE = Integer.MIN_VALUE;
+    private static final String DATE_TIME_PARAMETER = "dateTime";
+    private static final MessageTemplate AFTER_MESSAGE = MessageTemplate.parse("{value} isn't after {dateTime}");
+    private static final MessageTemplate BEFORE_MESSAGE = MessageTemplate.parse("{value} isn't before {dateTime}");
+
     private ValidationUtils() {
 
     }
@@ -30,11 +38,40 @@ public final class ValidationUtils {
                                          final String stringFormatterErrorMessage,
                                          final Object... args) {
         if (!statement) {
-            return new ValidationError(new IllegalArgumentException(String.format(stringFormatterErrorMessage, args)));
+            return violation(null, stringFormatterErrorMessage, args);
         }
         return null;
     }
 
+    /**
+     * Create the error for a failed constraint.  No exception is created and the message is not formatted, so the
+     * check should be done before this is called to keep the arguments from being boxed when the value is valid.
+     *
+     * @param constraintId    the id of the constraint, for example the name of the validator annotation.
+     * @param messageTemplate the {@link String#format(String, Object...)} template of the message.
+     * @param args            the arguments of the template.
+     * @return the {@link com.github.vincentrussell.validation.ValidationError} with the {@link Violation}.
+     */
+    public static ValidationError violation(final String constraintId, final String messageTemplate,
+                                            final Object... args) {
+        return new ValidationError(new Violation(constraintId, messageTemplate, args));
+    }
+
+    /**
+     * Create the error for a failed constraint with a {@link MessageTemplate}.  Nothing is rendered until the message
+     * is read.
+     *
+     * @param constraintId the id of the constraint, for example the name of the validator annotation.
+     * @param template     the {@link MessageTemplate} of the message.
+     * @param value        the value that failed.
+     * @param parameters   the other arguments of the template by name.
+     * @return the {@link com.github.vincentrussell.validation.ValidationError} with the {@link Violation}.
+     */
+    public static ValidationError violation(final String constraintId, final MessageTemplate template,
+                                            final Object value, final Map<String, ?> parameters) {
+        return new ValidationError(new Violation(constraintId, template, value, parameters));
+    }
+
     /**
      * Null safe comparison for {@link Number}s as {@link BigDecimal}.
      * @param n1 the first number
@@ -92,31 +129,25 @@ public final class ValidationUtils {
      * @return the {@link ValidationError} or null if there isn't an error.
      */
     public static ValidationError isDateAfter(final Object object, final ZonedDateTime dateTime) {
-        if (ChronoZonedDateTime.class.isInstance(object)) {
-            return ValidationUtils.isTrue(((ChronoZonedDateTime) object).isAfter(dateTime),
-                    "%s isn't after %s", object, dateTime);
-        } else  if (ChronoLocalDateTime.class.isInstance(object)) {
-            return ValidationUtils.isTrue(((ChronoLocalDateTime) object).isAfter(dateTime.toLocalDateTime()),
-                    "%s isn't after %s", object, dateTime);
-        } else if (Date.class.isInstance(object)) {
-            return ValidationUtils.isTrue(((Date) object).toInstant().isAfter(dateTime.toInstant()),
-                    "%s isn't after %s", object, dateTime);
-        } else if (Calendar.class.isInstance(object)) {
-            return ValidationUtils.isTrue(((Calendar) object).toInstant().isAfter(dateTime.toInstant()),
-                    "%s isn't after %s", ((Calendar) object).getTime(), dateTime);
-        } else if (Timestamp.class.isInstance(object)) {
-            return ValidationUtils.isTrue(((Timestamp) object).toInstant().isAfter(dateTime.toInstant()),
-                    "%s isn't after %s", object, dateTime);
-        } else if (LocalDate.class.isInstance(object)) {
-            return ValidationUtils.isTrue(((LocalDate) object).isAfter(dateTime.toLocalDateTime().toLocalDate()),
-                    "%s isn't after %s", object, dateTime);
-        } else if (Long.class.isInstance(object)) {
-            return ValidationUtils.isTrue(new Date((long) object).toInstant().isAfter(dateTime.toInstant()),
-                    "%s isn't after %s", object, dateTime);
-        }
-        return null;
+        return isDateAfter(object, dateTime, null);
     }
 
+    /**
+     * validation test to make sure that the first date is after the second date.
+     * @param object the first date
+     * @param dateTime the second date
+     * @param constraintId the id of the constraint that is reported in the {@link Violation}.
+     * @return the {@link ValidationError} or null if there isn't an error.
+     */
+    public static ValidationError isDateAfter(final Object object, final ZonedDateTime dateTime,
+                                              final String constraintId) {
+        final int comparison = compareDate(object, dateTime);
+        if (comparison == NOT_A_DATE || comparison > 0) {
+            return null;
+        }
+        return violation(constraintId, AFTER_MESSAGE, getDateArgument(object),
+                Collections.singletonMap(DATE_TIME_PARAMETER, dateTime));
+    }
 
     /**
      * validation test to make sure that the first date is before the second date.
@@ -125,30 +156,52 @@ public final class ValidationUtils {
      * @return the {@link ValidationError} or null if there isn't an error.
      */
     public static ValidationError isDateBefore(final Object object, final ZonedDateTime dateTime) {
+        return isDateBefore(object, dateTime, null);
+    }
+
+    /**
+     * validation test to make sure that the first date is before the second date.
+     * @param object the first date
+     * @param dateTime the second date
+     * @param constraintId the id of the constraint that is reported in the {@link Violation}.
+     * @return the {@link ValidationError} or null if there isn't an error.
+     */
+    public static ValidationError isDateBefore(final Object object, final ZonedDateTime dateTime,
+                                               final String constraintId) {
+        final int comparison = compareDate(object, dateTime);
+        if (comparison == NOT_A_DATE || comparison < 0) {
+            return null;
+        }
+        return violation(constraintId, BEFORE_MESSAGE, getDateArgument(object),
+                Collections.singletonMap(DATE_TIME_PARAMETER, dateTime));
+    }
+
+    //compares like the isAfter and isBefore methods of the date types, NOT_A_DATE if the object is no date
+    private static int compareDate(final Object object, final ZonedDateTime dateTime) {
         if (ChronoZonedDateTime.class.isInstance(object)) {
-            return ValidationUtils.isTrue(((ChronoZonedDateTime) object).isBefore(dateTime),
-                    "%s isn't before %s", object, dateTime);
+            return compare(((ChronoZonedDateTime) object).isAfter(dateTime),
+                    ((ChronoZonedDateTime) object).isBefore(dateTime));
         } else  if (ChronoLocalDateTime.class.isInstance(object)) {
-            return ValidationUtils.isTrue(((ChronoLocalDateTime) object).isBefore(dateTime.toLocalDateTime()),
-                    "%s isn't before %s", object, dateTime);
+            return compare(((ChronoLocalDateTime) object).isAfter(dateTime.toLocalDateTime()),
+                    ((ChronoLocalDateTime) object).isBefore(dateTime.toLocalDateTime()));
         } else if (Date.class.isInstance(object)) {
-            return ValidationUtils.isTrue(((Date) object).toInstant().isBefore(dateTime.toInstant()),
-                    "%s isn't before %s", object, dateTime);
+            return ((Date) object).toInstant().compareTo(dateTime.toInstant());
         } else if (Calendar.class.isInstance(object)) {
-            return ValidationUtils.isTrue(((Calendar) object).toInstant().isBefore(dateTime.toInstant()),
-                    "%s isn't before %s", ((Calendar) object).getTime(), dateTime);
-        } else if (Timestamp.class.isInstance(object)) {
-            return ValidationUtils.isTrue(((Timestamp) object).toInstant().isBefore(dateTime.toInstant()),
-                    "%s isn't before %s", object, dateTime);
+            return ((Calendar) object).toInstant().compareTo(dateTime.toInstant());
         } else if (LocalDate.class.isInstance(object)) {
-            return ValidationUtils.isTrue(((LocalDate) object).isBefore(dateTime.toLocalDateTime().toLocalDate()),
-                    "%s isn't before %s", object, dateTime);
+            return compare(((LocalDate) object).isAfter(dateTime.toLocalDateTime().toLocalDate()),
+                    ((LocalDate) object).isBefore(dateTime.toLocalDateTime().toLocalDate()));
         } else if (Long.class.isInstance(object)) {
-            return ValidationUtils.isTrue(new Date((long) object).toInstant().isBefore(dateTime.toInstant()),
-                    "%s isn't before %s", object, dateTime);
+            return new Date((long) object).toInstant().compareTo(dateTime.toInstant());
         }
-        return null;
+        return NOT_A_DATE;
     }
 
+    private static int compare(final boolean after, final boolean before) {
+        return after ? 1 : before ? -1 : 0;
+    }
 
+    private static Object getDateArgument(final Object object) {
+        return Calendar.class.isInstance(object) ? ((Calendar) object).getTime() : object;
+    }
 }
@@ -0,0 +1,18 @@
+package com.github.vincentrussell.validation;
+
+import com.github.vincentrussell.validation.scanner.ValidationIndex;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+
+public class ClassFileValidationServiceTest extends ValidationServiceTest {
+
+    @BeforeClass
+    public static void ignoreValidationIndex() {
+        System.setProperty(ValidationIndex.IGNORE_INDEX_PROPERTY, "true");
+    }
+
+    @AfterClass
+    public static void clearIgnoreValidationIndex() {
+        System.clearProperty(ValidationIndex.IGNORE_INDEX_PROPERTY);
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.vincentrussell.validation;
+
+import com.github.vincentrussell.validation.testClasses.simple.SimpleObject;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ClassLoaderLeakTest {
+
+    private static final String SIMPLE_PACKAGE = SimpleObject.class.getPackage().getName();
+
+    @Rule
+    public SeparateClassloaderRule separateClassloaderRule = new SeparateClassloaderRule(SIMPLE_PACKAGE);
+
+    private ClassLoader pluginClassLoader;
+
+    private final Validator notNullValidator = new Validator() {
+        @Override
+        public String getName() {
+            return "notNull";
+        }
+
+        @Override
+        public ValidationError validate(Object object) {
+            return object == null ? new ValidationError(new NullPointerException("the field is null")) : null;
+        }
+    };
+
+    @Before
+    public void takePluginClassLoader() {
+        pluginClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
+    }
+
+    @Test
+    public void registeredClassLoaderIsCollected() throws Exception {
+        ValidationService validationService = new ValidationService(SimpleObject.class);
+        validationService.addValidator(notNullValidator);
+        int validatedClasses = validationService.getValidatedClasses().size();
+
+        WeakReference<ClassLoader> reference = validatePluginObject(validationService, true);
+        assertTrue(validationService.getValidatedClasses().size() > validatedClasses);
+
+        awaitCollection(reference);
+        assertEquals(validatedClasses, validationService.getValidatedClasses().size());
+        assertFalse(validationService.validate(new SimpleObject()).isValid());
+    }
+
+    @Test
+    public void introspectedClassLoaderIsCollected() throws Exception {
+        ValidationService validationService = new ValidationService(Introspection.ON_DEMAND, SIMPLE_PACKAGE);
+        validationService.addValidator(notNullValidator);
+
+        awaitCollection(validatePluginObject(validationService, false));
+        assertFalse(validationService.validate(new SimpleObject()).isValid());
+    }
+
+    private WeakReference<ClassLoader> validatePluginObject(ValidationService validationService,
+                                                            boolean register) throws Exception {
+        if (register) {
+            validationService.registerPackage(SIMPLE_PACKAGE, pluginClassLoader);
+        }
+        Class<?> pluginClass = pluginClassLoader.loadClass(SimpleObject.class.getName());
+        assertNotSame(SimpleObject.class, pluginClass);
+        assertFalse(validationService.validate(pluginClass.newInstance()).isValid());
+        WeakReference<ClassLoader> reference = new WeakReference<>(pluginClassLoader);
+        pluginClassLoader = null;
+        return reference;
+    }
+
+    private void awaitCollection(WeakReference<ClassLoader> reference) throws InterruptedException {
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull("the plugin class loader was not collected", reference.get());
+    }
+}
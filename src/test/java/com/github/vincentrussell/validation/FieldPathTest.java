@@ -0,0 +1,44 @@
+package com.github.vincentrussell.validation;
+
+import org.junit.Test;
+
+import java.util.Stack;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class FieldPathTest {
+
+    @Test
+    public void segmentsAreJoinedWithDots() {
+        FieldPath parent = FieldPath.of("secondClassList");
+        FieldPath fieldPath = parent.child("thirdClassList").child("field1");
+        assertEquals("secondClassList", parent.toString());
+        assertEquals("secondClassList.thirdClassList.field1", fieldPath.toString());
+        assertEquals(3, fieldPath.getDepth());
+        assertEquals("field1", fieldPath.getSegment());
+        assertSame(parent, fieldPath.getParent().getParent());
+        assertNull(parent.getParent());
+    }
+
+    @Test
+    public void fieldIsOnlyBuiltWhenItIsRead() {
+        ValidationError validationError = new ValidationError(FieldPath.of("simpleObjects").child("field1"), null,
+                null);
+        assertEquals("simpleObjects.field1", validationError.getField());
+        assertSame(validationError.getField(), validationError.getField());
+        validationError.setField("other");
+        assertEquals("other", validationError.getField());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void stackIsStillSupported() {
+        Stack<String> pathStack = new Stack<>();
+        pathStack.push("simpleObjects");
+        pathStack.push("field1");
+        assertEquals("simpleObjects.field1", new ValidationError(pathStack, null, null).getField());
+        assertEquals("", new ValidationError(new Stack<>(), null, null).getField());
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.vincentrussell.validation;
+
+import com.github.vincentrussell.validation.plan.InterpretedPlanExecutor;
+import com.github.vincentrussell.validation.plan.PlanExecutor;
+import com.github.vincentrussell.validation.testClasses.defaultValidators.SimpleObjectDefaultValidators;
+import com.github.vincentrussell.validation.testClasses.simple.SimpleObject;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GeneratedValidationServiceTest extends ValidationServiceTest {
+
+    @Override
+    protected ValidationService newValidationService(Object... params) {
+        ValidationService validationService = new ValidationService(params);
+        validationService.setValidationEngine(ValidationEngine.GENERATED);
+        return validationService;
+    }
+
+    @Test
+    public void plansAreRunByGeneratedExecutors() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        validationService.addValidator(notNullValidator);
+        PlanExecutor planExecutor = validationService.getValidationPlan(SimpleObject.class).getPlanExecutor();
+        assertFalse(planExecutor instanceof InterpretedPlanExecutor);
+        assertFalse(validationService.getValidationPlan(SimpleObjectDefaultValidators.class).getPlanExecutor()
+                instanceof InterpretedPlanExecutor);
+    }
+
+    @Test
+    public void executorClassesAreReusedWhileTheStepsKeepTheirShape() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        validationService.addValidator(notNullValidator);
+        Class<?> executorClass = validationService.getValidationPlan(SimpleObject.class).getPlanExecutor().getClass();
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            validationService.addValidator(countingNotNullValidator(calls));
+        }
+        assertSame(executorClass, validationService.getValidationPlan(SimpleObject.class).getPlanExecutor()
+                .getClass());
+        assertFalse(validationService.validate(new SimpleObject()).isValid());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void switchBackToInterpreted() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        validationService.addValidator(notNullValidator);
+        validationService.setValidationEngine(ValidationEngine.INTERPRETED);
+        assertEquals(ValidationEngine.INTERPRETED, validationService.getValidationEngine());
+        assertTrue(validationService.getValidationPlan(SimpleObject.class).getPlanExecutor()
+                instanceof InterpretedPlanExecutor);
+        assertFalse(validationService.validate(new SimpleObject()).isValid());
+    }
+
+    @Test
+    public void plansAreInterpretedWithoutJavassist() throws Exception {
+        URLClassLoader classLoader = new SeparateClassloaderRule.TestClassLoader(
+                ValidationService.class.getPackage().getName()) {
+            @Override
+            public Class<?> loadClass(final String name) throws ClassNotFoundException {
+                if (name.startsWith("javassist.")) {
+                    throw new ClassNotFoundException(name);
+                }
+                return super.loadClass(name);
+            }
+        };
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        try {
+            Class<?> serviceClass = classLoader.loadClass(ValidationService.class.getName());
+            assertTrue(serviceClass != ValidationService.class);
+            Object validationService = serviceClass.getConstructor(Object[].class)
+                    .newInstance(new Object[] {new Object[] {TEST_CLASSES_PACKAGE}});
+            Class<?> engineClass = classLoader.loadClass(ValidationEngine.class.getName());
+            serviceClass.getMethod("setValidationEngine", engineClass).invoke(validationService,
+                    engineClass.getField(ValidationEngine.GENERATED.name()).get(null));
+            Method getValidationPlan = serviceClass.getDeclaredMethod("getValidationPlan", Class.class);
+            getValidationPlan.setAccessible(true);
+            Object validationPlan = getValidationPlan.invoke(validationService,
+                    classLoader.loadClass(SimpleObject.class.getName()));
+            assertEquals(InterpretedPlanExecutor.class.getName(), validationPlan.getClass()
+                    .getMethod("getPlanExecutor").invoke(validationPlan).getClass().getName());
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.vincentrussell.validation;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class MessageTemplateTest {
+
+    @Test
+    public void renderReplacesParametersByName() {
+        MessageTemplate messageTemplate = MessageTemplate.parse("{value} exceeds {max} for {value}");
+        assertEquals(Arrays.asList("value", "max", "value"), messageTemplate.getParameterNames());
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("value", 6L);
+        arguments.put("max", 5L);
+        assertEquals("6 exceeds 5 for 6", messageTemplate.render(arguments));
+        arguments.put("value", null);
+        assertEquals("null exceeds 5 for null", messageTemplate.render(arguments));
+    }
+
+    @Test
+    public void parametersWithoutArgumentsAreLeftAsTheyAre() {
+        MessageTemplate messageTemplate = MessageTemplate.parse("{value} exceeds {max}");
+        assertEquals("{value} exceeds 5", messageTemplate.render(Collections.singletonMap("max", 5L)));
+    }
+
+    @Test
+    public void bracesThatAreNotParametersAreLiterals() {
+        String template = "json {\"a\": 1} { } {1x} {";
+        MessageTemplate messageTemplate = MessageTemplate.parse(template);
+        assertEquals(Collections.emptyList(), messageTemplate.getParameterNames());
+        assertSame(template, messageTemplate.render(Collections.singletonMap("value", 1)));
+        assertEquals(template, messageTemplate.toString());
+        assertEquals("{x 1}", MessageTemplate.parse("{x {value}}").render(Collections.singletonMap("value", 1)));
+    }
+}
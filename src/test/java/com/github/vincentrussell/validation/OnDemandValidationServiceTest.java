@@ -0,0 +1,99 @@
+package com.github.vincentrussell.validation;
+
+import com.github.vincentrussell.validation.report.StartupReport;
+import com.github.vincentrussell.validation.snapshot.MetadataSnapshot;
+import com.github.vincentrussell.validation.testClasses.nestedObjects.ObjectWithNestedObjects;
+import com.github.vincentrussell.validation.testClasses.simple.SimpleObject;
+import com.github.vincentrussell.validation.testClasses.withType.ObjectWithType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class OnDemandValidationServiceTest extends ValidationServiceTest {
+
+    @Override
+    protected ValidationService newValidationService(Object... params) {
+        List<Object> paramsList = new ArrayList<>(Arrays.asList(params));
+        paramsList.add(Introspection.ON_DEMAND);
+        return new ValidationService(paramsList.toArray());
+    }
+
+    @Test
+    @Override
+    public void testValidationIndexIsUsedUnlessIgnored() {
+        assertFalse(newValidationService(TEST_CLASSES_PACKAGE).isIndexed());
+    }
+
+    @Test
+    @Override
+    public void testMetadataSnapshotIsWrittenAndRead() {
+        try {
+            newValidationService(new MetadataSnapshot(temporaryFolder.getRoot().toPath().resolve("snapshot.bin")),
+                    TEST_CLASSES_PACKAGE);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        throw new AssertionError("a metadata snapshot can't be used with on demand introspection");
+    }
+
+    @Test
+    @Override
+    public void testStartupReport() {
+        StartupReport startupReport = new StartupReport();
+        assertSame(startupReport, newValidationService(startupReport, TEST_CLASSES_PACKAGE).getStartupReport());
+        assertNull(startupReport.getPhase(StartupReport.SCAN));
+        assertEquals(1, startupReport.getPhase(StartupReport.COMPILE_PLANS).getCount());
+        assertEquals(0, startupReport.getRetainedClasses());
+        assertNull(startupReport.getPhase(StartupReport.COMPACT_METADATA));
+        assertEquals(-1, startupReport.getRetainedBytesAfterCompaction());
+    }
+
+    @Test
+    public void testClassesAreIntrospectedOnFirstValidation() {
+        ValidationService validationService = new ValidationService(Introspection.ON_DEMAND);
+        validationService.addValidator(notNullValidator);
+        ObjectWithNestedObjects object = new ObjectWithNestedObjects();
+        object.setSimpleObject1(new SimpleObject());
+        ValidationResponse validationResponse = validationService.validate(object);
+        assertFalse(validationResponse.isValid());
+        assertEquals("simpleObject1.field1", validationResponse.getValidationErrors().get(0).getField());
+        assertNotNull(validationService.getValidationPlan(SimpleObject.class));
+        assertNull(validationService.getValidationPlan(String.class));
+    }
+
+    @Test
+    public void testDeterminedTypesThatNoFieldDeclaresAreNotIndexed() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        validationService.addValidator(notNullValidator);
+        validationService.addTypeDeterminer(ObjectWithType.class, ObjectWithType::getType);
+        ObjectWithType object = new ObjectWithType();
+        object.setSubType(new ObjectWithType.SubType());
+        object.setType("typeToValidate");
+        assertFalse(validationService.isValid(object));
+        int indexedTypes = validationService.getIndexedTypeCount();
+        for (int i = 0; i < 1000; i++) {
+            object.setType("unvalidatedType" + i);
+            assertTrue(validationService.validate(object).isValid());
+        }
+        assertEquals(indexedTypes, validationService.getIndexedTypeCount());
+        object.setType("typeToValidate");
+        assertFalse(validationService.validate(object).isValid());
+    }
+
+    @Test
+    public void testClassesOutsideOfThePackagesAreNotIntrospected() {
+        ValidationService validationService = newValidationService("com.github.vincentrussell.validation.other");
+        validationService.addValidator(notNullValidator);
+        assertTrue(validationService.validate(new SimpleObject()).isValid());
+        assertNull(validationService.getValidationPlan(SimpleObject.class));
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.vincentrussell.validation;
+
+import com.github.vincentrussell.validation.scanner.ClassFileScanner;
+import com.github.vincentrussell.validation.scanner.ValidationIndex;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+
+public class ReflectionsValidationServiceTest extends ValidationServiceTest {
+
+    @BeforeClass
+    public static void ignoreValidationIndex() {
+        System.setProperty(ValidationIndex.IGNORE_INDEX_PROPERTY, "true");
+        System.setProperty(ClassFileScanner.IGNORE_CLASS_FILES_PROPERTY, "true");
+    }
+
+    @AfterClass
+    public static void clearIgnoreValidationIndex() {
+        System.clearProperty(ValidationIndex.IGNORE_INDEX_PROPERTY);
+        System.clearProperty(ClassFileScanner.IGNORE_CLASS_FILES_PROPERTY);
+    }
+}
@@ -8,6 +8,12 @@ import java.net.URLClassLoader;
 
 public class SeparateClassloaderRule implements TestRule {
 
+    private final String[] isolatedPackages;
+
+    public SeparateClassloaderRule(final String... isolatedPackages) {
+        this.isolatedPackages = isolatedPackages;
+    }
+
     @Override
     public Statement apply(final Statement base, final Description description) {
         try {
@@ -24,7 +30,7 @@ public class SeparateClassloaderRule implements TestRule {
             public void evaluate() throws Throwable {
                 final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
                 try {
-                    Thread.currentThread().setContextClassLoader(new TestClassLoader());
+                    Thread.currentThread().setContextClassLoader(new TestClassLoader(isolatedPackages));
                     base.evaluate();
                 }  finally {
                     Thread.currentThread().setContextClassLoader(classLoader);
@@ -34,12 +40,24 @@ public class SeparateClassloaderRule implements TestRule {
     }
 
     public static class TestClassLoader extends URLClassLoader {
-        public TestClassLoader() {
+
+        private final String[] isolatedPackages;
+
+        public TestClassLoader(final String... isolatedPackages) {
             super(((URLClassLoader)getSystemClassLoader()).getURLs());
+            this.isolatedPackages = isolatedPackages;
         }
 
         @Override
         public Class<?> loadClass(final String name) throws ClassNotFoundException {
+            for (String isolatedPackage : isolatedPackages) {
+                if (name.startsWith(isolatedPackage)) {
+                    synchronized (getClassLoadingLock(name)) {
+                        final Class<?> loadedClass = findLoadedClass(name);
+                        return loadedClass != null ? loadedClass : findClass(name);
+                    }
+                }
+            }
             return super.loadClass(name);
         }
     }
@@ -0,0 +1,85 @@
+package com.github.vincentrussell.validation;
+
+import com.github.vincentrussell.validation.testClasses.defaultValidators.SimpleObjectDefaultValidators;
+import com.github.vincentrussell.validation.testClasses.nestedObjects.ObjectWithNestedObjects;
+import com.github.vincentrussell.validation.testClasses.simple.SimpleObject;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ValidationMetadataRegistryTest {
+
+    private static final String TEST_CLASSES_PACKAGE = "com.github.vincentrussell.validation.testClasses";
+
+    private final Validator notNullValidator = new Validator() {
+        @Override
+        public String getName() {
+            return "notNull";
+        }
+
+        @Override
+        public ValidationError validate(Object object) {
+            return object == null ? new ValidationError(new NullPointerException("the field is null")) : null;
+        }
+    };
+
+    @Test
+    public void servicesShareMetadataAndValidators() {
+        ValidationMetadataRegistry registry = ValidationMetadataRegistry.create(TEST_CLASSES_PACKAGE);
+        assertTrue(registry.getValidatedClasses().contains(SimpleObject.class));
+        ValidationService validationService1 = new ValidationService(registry);
+        ValidationService validationService2 = new ValidationService(registry);
+        assertTrue(validationService1.isSharingMetadataWith(registry.getTemplate()));
+        assertTrue(validationService2.isSharingMetadataWith(registry.getTemplate()));
+
+        SimpleObjectDefaultValidators object = new SimpleObjectDefaultValidators();
+        object.setField3(33);
+        List<ValidationError> validationErrors1 = validationService1.validate(object)
+                .findValidationErrorsForField("field3");
+        List<ValidationError> validationErrors2 = validationService2.validate(object)
+                .findValidationErrorsForField("field3");
+        assertEquals("value 33 is more than 32", validationErrors1.get(0).getThrowable().getMessage());
+        assertEquals("value 33 is more than 32", validationErrors2.get(0).getThrowable().getMessage());
+    }
+
+    @Test
+    public void customValidatorsAreNotShared() {
+        ValidationMetadataRegistry registry = ValidationMetadataRegistry.create(TEST_CLASSES_PACKAGE);
+        ValidationService validationService1 = new ValidationService(registry);
+        ValidationService validationService2 = new ValidationService(registry);
+        validationService1.addValidator(notNullValidator);
+        assertFalse(validationService1.validate(new SimpleObject()).isValid());
+        assertTrue(validationService2.validate(new SimpleObject()).isValid());
+    }
+
+    @Test
+    public void registeredClassesAreNotShared() {
+        ValidationMetadataRegistry registry = ValidationMetadataRegistry.create(SimpleObject.class);
+        ValidationService validationService1 = new ValidationService(registry);
+        ValidationService validationService2 = new ValidationService(registry);
+        validationService1.addValidator(notNullValidator);
+        validationService2.addValidator(notNullValidator);
+        validationService1.registerClasses(ObjectWithNestedObjects.class);
+        ObjectWithNestedObjects object = new ObjectWithNestedObjects();
+        object.setSimpleObject1(new SimpleObject());
+        assertFalse(validationService1.validate(object).isValid());
+        assertTrue(validationService2.validate(object).isValid());
+        assertFalse(validationService1.isSharingMetadataWith(registry.getTemplate()));
+        assertTrue(validationService2.isSharingMetadataWith(registry.getTemplate()));
+        assertFalse(registry.getValidatedClasses().contains(ObjectWithNestedObjects.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void registryCanNotBeCombinedWithPackages() {
+        new ValidationService(ValidationMetadataRegistry.create(SimpleObject.class), TEST_CLASSES_PACKAGE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void onDemandIntrospectionCanNotBeShared() {
+        ValidationMetadataRegistry.create(Introspection.ON_DEMAND, TEST_CLASSES_PACKAGE);
+    }
+}
@@ -13,12 +13,17 @@ import com.github.vincentrussell.validation.annotation.NotNull;
 import com.github.vincentrussell.validation.annotation.Past;
 import com.github.vincentrussell.validation.annotation.Regex;
 import com.github.vincentrussell.validation.annotation.Size;
+import com.github.vincentrussell.validation.report.StartupReport;
+import com.github.vincentrussell.validation.scanner.ValidationIndex;
+import com.github.vincentrussell.validation.snapshot.MetadataSnapshot;
+import com.github.vincentrussell.validation.testClasses.core.CoreObject;
 import com.github.vincentrussell.validation.testClasses.deep.ObjectWithDeepNesting;
 import com.github.vincentrussell.validation.testClasses.deepWithCircular.ObjectWithDeepNestingWithCircular;
 import com.github.vincentrussell.validation.testClasses.defaultValidators.SimpleObjectDefaultValidators;
 import com.github.vincentrussell.validation.testClasses.nestedCollections.ObjectWithNestedCollectionObjects;
 import com.github.vincentrussell.validation.testClasses.nestedMaps.ObjectWithNestedMapObjects;
 import com.github.vincentrussell.validation.testClasses.nestedObjects.ObjectWithNestedObjects;
+import com.github.vincentrussell.validation.testClasses.plugin.PluginObject;
 import com.github.vincentrussell.validation.testClasses.simpleMultipleFields.SimpleObjectWithMultipleFields;
 import com.github.vincentrussell.validation.testClasses.typedValidator.SimpleObjectWithTypedValidator;
 import com.github.vincentrussell.validation.testClasses.typedWithMainObjectValidator.SimpleObjectWithTypedValidatorMainObject;
@@ -26,13 +31,21 @@ import com.github.vincentrussell.validation.testClasses.withType.ObjectWithType;
 import com.github.vincentrussell.validation.testClasses.simple.SimpleObject;
 import com.github.vincentrussell.validation.testClasses.SimpleObjectWithNonEmptyValidation;
 import com.github.vincentrussell.validation.type.TypeDeterminer;
+import com.github.vincentrussell.validation.util.ValidationUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.junit.Assume;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.ReflectionUtils;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.file.Files;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -40,7 +53,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -52,8 +76,14 @@ public class ValidationServiceTest {
 
     public static final String EMPTY_STRING = "";
     public static final String TEST_CLASSES_PACKAGE = "com.github.vincentrussell.validation.testClasses";
-    private Validator notNullValidator;
-    private Validator emptyStringValidator;
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    protected Validator notNullValidator;
+    protected Validator emptyStringValidator;
+
+    protected ValidationService newValidationService(Object... params) {
+        return new ValidationService(params);
+    }
 
     @org.junit.Before
     public void createValidator() {
@@ -89,7 +119,7 @@ public class ValidationServiceTest {
 
     @Test
     public void testWithValidatorOnField() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         validationService.addValidator(notNullValidator);
         SimpleObject object = new SimpleObject();
         ValidationResponse validationResponse = validationService.validate(object);
@@ -101,9 +131,146 @@ public class ValidationServiceTest {
 
 
 
+    @Test
+    public void testValidationIndexIsUsedUnlessIgnored() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        assertEquals(!Boolean.getBoolean(ValidationIndex.IGNORE_INDEX_PROPERTY), validationService.isIndexed());
+    }
+
+    @Test
+    public void testMetadataSnapshotIsWrittenAndRead() throws IOException {
+        MetadataSnapshot metadataSnapshot = new MetadataSnapshot(temporaryFolder.getRoot().toPath()
+                .resolve("snapshot.bin"));
+        assertFalse(newValidationService(metadataSnapshot, TEST_CLASSES_PACKAGE).isLoadedFromSnapshot());
+        assertTrue(Files.isRegularFile(metadataSnapshot.getPath()));
+
+        ValidationService validationService = newValidationService(metadataSnapshot, TEST_CLASSES_PACKAGE);
+        assertTrue(validationService.isLoadedFromSnapshot());
+        validationService.addValidator(notNullValidator);
+        ObjectWithNestedCollectionObjects object = new ObjectWithNestedCollectionObjects();
+        object.setSimpleObjects(Arrays.asList(new SimpleObject()));
+        ValidationResponse validationResponse = validationService.validate(object);
+        assertFalse(validationResponse.isValid());
+        assertEquals("AliasedSimpleObjects.field1", validationResponse.getValidationErrors().get(0).getField());
+        SimpleObjectDefaultValidators defaultValidatorsObject = new SimpleObjectDefaultValidators();
+        defaultValidatorsObject.setField3(33);
+        List<ValidationError> validationErrors = validationService.validate(defaultValidatorsObject)
+                .findValidationErrorsForField("field3");
+        assertEquals("value 33 is more than 32", validationErrors.get(0).getThrowable().getMessage());
+
+        assertFalse(newValidationService(metadataSnapshot, SimpleObject.class).isLoadedFromSnapshot());
+        assertTrue(newValidationService(metadataSnapshot, SimpleObject.class).isLoadedFromSnapshot());
+    }
+
+    @Test
+    public void testStartupReport() {
+        StartupReport startupReport = new StartupReport();
+        ValidationService validationService = newValidationService(startupReport, TEST_CLASSES_PACKAGE);
+        assertSame(startupReport, validationService.getStartupReport());
+        assertTrue(startupReport.getPhase(StartupReport.SCAN).getNanos() > 0);
+        assertEquals(1, startupReport.getPhase(StartupReport.COMPILE_PLANS).getCount());
+        assertTrue(startupReport.getScannedClasses() >= startupReport.getRetainedClasses());
+        assertTrue(startupReport.getScannedFields() >= startupReport.getRetainedFields());
+        assertTrue(startupReport.getRetainedClasses() > 0);
+        assertTrue(startupReport.getValidatorInstances() > 0);
+        assertEquals(startupReport.getValidatorInstances(),
+                startupReport.getPhase(StartupReport.INSTANTIATE_VALIDATORS).getCount());
+        assertTrue(startupReport.toString().contains(StartupReport.REACHABILITY));
+        assertEquals(1, startupReport.getPhase(StartupReport.COMPACT_METADATA).getCount());
+        assertTrue(startupReport.getRetainedBytesAfterCompaction() > 0);
+        assertTrue(startupReport.getRetainedBytesBeforeCompaction() > startupReport.getRetainedBytesAfterCompaction());
+        assertNull(newValidationService(TEST_CLASSES_PACKAGE).getStartupReport());
+    }
+
+    @Test
+    public void testRegisterClasses() {
+        ValidationService validationService = newValidationService(SimpleObject.class);
+        validationService.addValidator(notNullValidator);
+        ObjectWithNestedObjects object = new ObjectWithNestedObjects();
+        object.setSimpleObject1(new SimpleObject());
+        assertTrue(validationService.validate(object).isValid());
+
+        validationService.registerClasses(ObjectWithNestedObjects.class);
+        ValidationResponse validationResponse = validationService.validate(object);
+        assertFalse(validationResponse.isValid());
+        assertEquals("simpleObject1.field1", validationResponse.getValidationErrors().get(0).getField());
+    }
+
+    @Test
+    public void testRegisterClassesAddsNestedStepsToKnownClasses() {
+        ValidationService validationService = newValidationService(CoreObject.class);
+        validationService.addValidator(notNullValidator);
+        CoreObject object = new CoreObject().setName("core").setPlugin(new PluginObject());
+        assertTrue(validationService.validate(object).isValid());
+
+        validationService.registerClasses(PluginObject.class);
+        ValidationResponse validationResponse = validationService.validate(object);
+        assertFalse(validationResponse.isValid());
+        assertEquals("plugin.setting", validationResponse.getValidationErrors().get(0).getField());
+    }
+
+    @Test
+    public void testReplacedValidatorIsOnlyUsedByNewValidations() {
+        final ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        final Validator replacement = new Validator() {
+            @Override
+            public String getName() {
+                return "notNull";
+            }
+
+            @Override
+            public ValidationError validate(Object object) {
+                return null;
+            }
+        };
+        validationService.addValidator(new Validator() {
+            @Override
+            public String getName() {
+                return "notNull";
+            }
+
+            @Override
+            public ValidationError validate(Object object) {
+                validationService.addValidator(replacement);
+                return notNullValidator.validate(object);
+            }
+        });
+        ObjectWithNestedCollectionObjects object = new ObjectWithNestedCollectionObjects();
+        object.setSimpleObjects(Arrays.asList(new SimpleObject(), new SimpleObject()));
+        assertEquals(2, validationService.validate(object).getValidationErrors().size());
+        assertTrue(validationService.validate(object).isValid());
+    }
+
+    @Test
+    public void testRegisterPackage() {
+        ValidationService validationService = newValidationService(SimpleObject.class);
+        validationService.addValidator(notNullValidator);
+        ObjectWithNestedCollectionObjects object = new ObjectWithNestedCollectionObjects();
+        object.setSimpleObjects(Arrays.asList(new SimpleObject()));
+        assertTrue(validationService.validate(object).isValid());
+
+        validationService.registerPackage(ObjectWithNestedCollectionObjects.class.getPackage().getName(),
+                getClass().getClassLoader());
+        ValidationResponse validationResponse = validationService.validate(object);
+        assertFalse(validationResponse.isValid());
+        assertEquals("AliasedSimpleObjects.field1", validationResponse.getValidationErrors().get(0).getField());
+    }
+
+    @Test
+    public void testValidatorAddedAfterValidateIsUsed() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        SimpleObject object = new SimpleObject();
+        assertTrue(validationService.validate(object).isValid());
+        validationService.addValidator(notNullValidator);
+        assertFalse(validationService.validate(object).isValid());
+        validationService.addValidators(Collections.singletonMap("notNull", emptyStringValidator));
+        object.setField1(EMPTY_STRING);
+        assertFalse(validationService.validate(object).isValid());
+    }
+
     @Test
     public void testWithValidatorOnMultipleFields() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         validationService.addValidator(notNullValidator);
         SimpleObjectWithMultipleFields object = new SimpleObjectWithMultipleFields();
         ValidationResponse validationResponse = validationService.validate(object);
@@ -122,7 +289,7 @@ public class ValidationServiceTest {
 
     @Test
     public void testWithValidatorOnNestedField() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         validationService.addValidator(notNullValidator);
         ObjectWithNestedObjects object = new ObjectWithNestedObjects();
         ValidationResponse validationResponse = validationService.validate(object);
@@ -137,7 +304,7 @@ public class ValidationServiceTest {
 
     @Test
     public void testWithValidatorOnNestedCollectionField() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         validationService.addValidator(notNullValidator);
         ObjectWithNestedCollectionObjects object = new ObjectWithNestedCollectionObjects();
         ValidationResponse validationResponse = validationService.validate(object);
@@ -152,7 +319,7 @@ public class ValidationServiceTest {
 
     @Test
     public void testFieldNameInValidationErrorsIsBasedOnStackAndPathAliasIsUsed() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         validationService.addValidator(notNullValidator);
         ObjectWithNestedCollectionObjects object = new ObjectWithNestedCollectionObjects();
         object.setSimpleObjects(Arrays.asList(new SimpleObject()));
@@ -163,7 +330,7 @@ public class ValidationServiceTest {
 
     @Test
     public void testPathAliasIsUsed() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         validationService.addValidator(notNullValidator);
         ObjectWithNestedCollectionObjects object = new ObjectWithNestedCollectionObjects();
         object.setSimpleObjects(Arrays.asList(new SimpleObject()));
@@ -174,7 +341,7 @@ public class ValidationServiceTest {
 
     @Test
     public void testWithValidatorOnNestedMapField() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         validationService.addValidator(notNullValidator);
         ObjectWithNestedMapObjects object = new ObjectWithNestedMapObjects();
         ValidationResponse validationResponse = validationService.validate(object);
@@ -187,9 +354,421 @@ public class ValidationServiceTest {
         assertTrue(validationResponse.isValid());
     }
 
+    @Test
+    public void testFailFastStopsAtTheFirstError() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        AtomicInteger calls = new AtomicInteger();
+        validationService.addValidator(countingNotNullValidator(calls));
+        ValidationResponse validationResponse = validationService.validate(new SimpleObjectWithMultipleFields(),
+                ValidationOptions.failFast());
+        assertEquals(1, validationResponse.getValidationErrors().size());
+        assertEquals(1, calls.get());
+        assertEquals(2, validationService.validate(new SimpleObjectWithMultipleFields()).getValidationErrors().size());
+    }
+
+    @Test
+    public void testMaxErrorsSkipsTheRestOfACollection() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        AtomicInteger calls = new AtomicInteger();
+        validationService.addValidator(countingNotNullValidator(calls));
+        ObjectWithNestedCollectionObjects object = new ObjectWithNestedCollectionObjects();
+        List<SimpleObject> simpleObjects = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            simpleObjects.add(new SimpleObject());
+        }
+        object.setSimpleObjects(simpleObjects);
+        ValidationResponse validationResponse = validationService.validate(object, ValidationOptions.maxErrors(3));
+        assertEquals(3, validationResponse.getValidationErrors().size());
+        assertEquals(3, calls.get());
+        assertEquals(10, validationService.validate(object).getValidationErrors().size());
+    }
+
+    @Test
+    public void testMaxErrorsSkipsTheRestOfAMap() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        AtomicInteger calls = new AtomicInteger();
+        validationService.addValidator(countingNotNullValidator(calls));
+        ObjectWithNestedMapObjects object = new ObjectWithNestedMapObjects();
+        Map<String, SimpleObject> simpleObjects = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            simpleObjects.put("key" + i, new SimpleObject());
+        }
+        object.setSimpleObjectsMap(simpleObjects);
+        ValidationResponse validationResponse = validationService.validate(object, ValidationOptions.maxErrors(2));
+        assertEquals(2, validationResponse.getValidationErrors().size());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testIsValid() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        validationService.addValidator(notNullValidator);
+        ObjectWithNestedCollectionObjects object = new ObjectWithNestedCollectionObjects();
+        object.setSimpleObjects(Arrays.asList(new SimpleObject().setField1("not null"), new SimpleObject()));
+        assertFalse(validationService.isValid(object));
+        assertFalse(validationService.validate(object).isValid());
+        object.getSimpleObjects().get(1).setField1("not null");
+        assertTrue(validationService.isValid(object));
+        assertSame(ValidationResponse.VALID, validationService.validate(object));
+        assertTrue(validationService.isValid("not validated"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testValidResponseCanNotBeChanged() {
+        ValidationResponse.VALID.addError(new ValidationError(new NullPointerException("the field is null")));
+    }
+
+    @Test
+    public void testIsValidDoesNotAllocateForAValidObject() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled());
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threadMXBean;
+        long threadId = Thread.currentThread().getId();
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        validationService.addValidator(notNullValidator);
+        ObjectWithNestedCollectionObjects object = new ObjectWithNestedCollectionObjects();
+        object.setSimpleObjects(Arrays.asList(new SimpleObject().setField1("a"), new SimpleObject().setField1("b"),
+                new SimpleObject().setField1("c")));
+        int iterations = 100000;
+        boolean valid = true;
+        for (int i = 0; i < iterations; i++) {
+            valid &= validationService.isValid(object);
+        }
+        long start = allocations.getThreadAllocatedBytes(threadId);
+        long overhead = allocations.getThreadAllocatedBytes(threadId) - start;
+        long before = allocations.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            valid &= validationService.isValid(object);
+        }
+        long allocated = allocations.getThreadAllocatedBytes(threadId) - before - overhead;
+        assertTrue(valid);
+        assertTrue(String.format("%d bytes were allocated for %d checks", allocated, iterations),
+                allocated < iterations);
+    }
+
+    @Test
+    public void testParallelValidationKeepsTheOrderOfTheErrors() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        validationService.addValidator(new Validator() {
+            @Override
+            public String getName() {
+                return notNullValidator.getName();
+            }
+
+            @Override
+            public ValidationError validate(Object object) {
+                return object != null && object.toString().endsWith("0") ? null
+                        : ValidationUtils.violation(null, "%s is invalid", object);
+            }
+        });
+        ObjectWithNestedCollectionObjects object = new ObjectWithNestedCollectionObjects();
+        List<SimpleObject> simpleObjects = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            SimpleObject simpleObject = new SimpleObject();
+            simpleObject.setField1(i % 7 == 0 ? null : "value" + i);
+            simpleObjects.add(simpleObject);
+        }
+        object.setSimpleObjects(simpleObjects);
+        List<ValidationError> sequentialErrors = validationService.validate(object).getValidationErrors();
+        List<ValidationError> parallelErrors = validationService.validate(object,
+                ValidationOptions.DEFAULT.withParallelThreshold(10)).getValidationErrors();
+        assertEquals(915, sequentialErrors.size());
+        assertEquals(sequentialErrors.size(), parallelErrors.size());
+        for (int i = 0; i < sequentialErrors.size(); i++) {
+            assertEquals(sequentialErrors.get(i).getValue(), parallelErrors.get(i).getValue());
+            assertEquals("AliasedSimpleObjects.field1", parallelErrors.get(i).getField());
+        }
+        assertEquals(10, validationService.validate(object, ValidationOptions.maxErrors(10)
+                .withParallelThreshold(10)).getValidationErrors().size());
+    }
+
+    @Test
+    public void testParallelValidationWithALimitFindsTheSameErrorsAsASequentialValidation() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        validationService.addValidator(new Validator() {
+            @Override
+            public String getName() {
+                return notNullValidator.getName();
+            }
+
+            @Override
+            public ValidationError validate(Object object) {
+                if (object.toString().startsWith("invalid")) {
+                    //the early elements are slow so the later splits find their errors first
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                    return ValidationUtils.violation(null, "%s is invalid", object);
+                }
+                return null;
+            }
+        });
+        ObjectWithNestedCollectionObjects object = new ObjectWithNestedCollectionObjects();
+        List<SimpleObject> simpleObjects = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            SimpleObject simpleObject = new SimpleObject();
+            simpleObject.setField1((i % 100 == 0 || i > 600 ? "invalid" : "value") + i);
+            simpleObjects.add(simpleObject);
+        }
+        object.setSimpleObjects(simpleObjects);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (ValidationOptions options : Arrays.asList(ValidationOptions.failFast(),
+                    ValidationOptions.maxErrors(3), ValidationOptions.maxErrors(10))) {
+                List<ValidationError> sequentialErrors = validationService.validate(object, options)
+                        .getValidationErrors();
+                List<ValidationError> parallelErrors = validationService.validate(object,
+                        options.withParallelThreshold(10).withForkJoinPool(pool)).getValidationErrors();
+                assertEquals(options.getMaxErrors(), parallelErrors.size());
+                for (int i = 0; i < sequentialErrors.size(); i++) {
+                    assertEquals(sequentialErrors.get(i).getValue(), parallelErrors.get(i).getValue());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelValidationOfAMap() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        AtomicInteger calls = new AtomicInteger();
+        validationService.addValidator(countingNotNullValidator(calls));
+        ObjectWithNestedMapObjects object = new ObjectWithNestedMapObjects();
+        Map<String, SimpleObject> simpleObjects = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            simpleObjects.put("key" + i, new SimpleObject());
+        }
+        object.setSimpleObjectsMap(simpleObjects);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ValidationResponse validationResponse = validationService.validate(object,
+                    ValidationOptions.DEFAULT.withParallelThreshold(7).withForkJoinPool(pool));
+            assertEquals(100, validationResponse.getValidationErrors().size());
+            assertEquals(100, calls.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testValidateAll() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        validationService.addValidator(notNullValidator);
+        List<Object> objects = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            SimpleObject simpleObject = new SimpleObject();
+            simpleObject.setField1(i % 3 == 0 ? null : "value");
+            objects.add(simpleObject);
+        }
+        objects.set(1, null);
+        objects.set(3, "not validated");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BatchValidationResponse batchValidationResponse = validationService.validateAll(objects,
+                    ValidationOptions.DEFAULT.withForkJoinPool(pool));
+            assertEquals(1000, batchValidationResponse.size());
+            assertFalse(batchValidationResponse.isValid());
+            assertEquals(333, batchValidationResponse.getInvalidCount());
+            assertEquals(333, batchValidationResponse.getInvalid().cardinality());
+            for (int i = 0; i < 1000; i++) {
+                boolean invalid = i % 3 == 0 && i != 3;
+                assertEquals(!invalid, batchValidationResponse.isValid(i));
+                assertEquals(invalid ? 1 : 0, batchValidationResponse.getValidationResponse(i)
+                        .getValidationErrors().size());
+            }
+            assertSame(ValidationResponse.VALID, batchValidationResponse.getValidationResponse(1));
+            assertEquals("field1",
+                    batchValidationResponse.getValidationResponse(999).getValidationErrors().get(0).getField());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testValidateAllWithAnArray() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        validationService.addValidator(notNullValidator);
+        SimpleObject valid = new SimpleObject();
+        valid.setField1("value");
+        BatchValidationResponse batchValidationResponse = validationService.validateAll(
+                new Object[] {valid, new SimpleObject(), valid});
+        assertEquals(3, batchValidationResponse.size());
+        assertEquals(1, batchValidationResponse.getInvalidCount());
+        assertFalse(batchValidationResponse.isValid(1));
+        assertTrue(validationService.validateAll(new Object[] {valid}).isValid());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testValidateAllResponseIndexHasToBeInTheBatch() {
+        newValidationService(TEST_CLASSES_PACKAGE).validateAll(Collections.emptyList()).isValid(0);
+    }
+
+    @Test
+    public void testValidateAsync() throws Exception {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        validationService.addValidator(notNullValidator);
+        assertFalse(validationService.validateAsync(new SimpleObject()).get(5, TimeUnit.SECONDS).isValid());
+        SimpleObject valid = new SimpleObject();
+        valid.setField1("value");
+        assertTrue(validationService.validateAsync(valid).get(5, TimeUnit.SECONDS).isValid());
+    }
+
+    @Test
+    public void testValidateAsyncBoundsTheValidationsInFlight() throws Exception {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        validationService.addValidator(blockingNotNullValidator(calls, running, maxRunning, release));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            validationService.setAsyncExecutor(executor, 2);
+            List<CompletableFuture<ValidationResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(validationService.validateAsync(new SimpleObject()));
+            }
+            long deadline = System.currentTimeMillis() + 5000;
+            while (calls.get() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(100);
+            assertEquals(2, calls.get());
+            release.countDown();
+            for (CompletableFuture<ValidationResponse> future : futures) {
+                assertFalse(future.get(5, TimeUnit.SECONDS).isValid());
+            }
+            assertEquals(6, calls.get());
+            assertEquals(2, maxRunning.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCancelledValidateAsyncIsSkipped() throws Exception {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        validationService.addValidator(blockingNotNullValidator(calls, new AtomicInteger(), new AtomicInteger(),
+                release));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        validationService.setAsyncExecutor(executor, 1);
+        CompletableFuture<ValidationResponse> first = validationService.validateAsync(new SimpleObject());
+        CompletableFuture<ValidationResponse> second = validationService.validateAsync(new SimpleObject());
+        assertTrue(second.cancel(true));
+        release.countDown();
+        assertFalse(first.get(5, TimeUnit.SECONDS).isValid());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(second.isCancelled());
+        assertEquals(1, calls.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxInFlightHasToBePositive() {
+        newValidationService(TEST_CLASSES_PACKAGE).setAsyncExecutor(Runnable::run, 0);
+    }
+
+    private Validator blockingNotNullValidator(final AtomicInteger calls, final AtomicInteger running,
+                                               final AtomicInteger maxRunning, final CountDownLatch release) {
+        return new Validator() {
+            @Override
+            public String getName() {
+                return notNullValidator.getName();
+            }
+
+            @Override
+            public ValidationError validate(Object object) {
+                calls.incrementAndGet();
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return notNullValidator.validate(object);
+            }
+        };
+    }
+
+    @Test
+    public void testValidateWithAViolationSink() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        validationService.addValidator(notNullValidator);
+        ObjectWithNestedCollectionObjects object = new ObjectWithNestedCollectionObjects();
+        List<SimpleObject> simpleObjects = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            simpleObjects.add(new SimpleObject());
+        }
+        object.setSimpleObjects(simpleObjects);
+        List<String> fields = new ArrayList<>();
+        assertEquals(100, validationService.validate(object, validationError -> {
+            fields.add(validationError.getField());
+            return true;
+        }));
+        assertEquals(validationService.validate(object).getValidationErrors().stream().map(ValidationError::getField)
+                .collect(Collectors.toList()), fields);
+        List<ValidationError> parallelErrors = new ArrayList<>();
+        assertEquals(100, validationService.validate(object, ValidationOptions.DEFAULT.withParallelThreshold(10),
+                parallelErrors::add));
+        assertEquals(100, parallelErrors.size());
+        assertEquals(0, validationService.validate(new SimpleObjectWithNonEmptyValidation(), validationError -> true));
+    }
+
+    @Test
+    public void testViolationSinkCanStopTheValidation() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        AtomicInteger calls = new AtomicInteger();
+        validationService.addValidator(countingNotNullValidator(calls));
+        ObjectWithNestedCollectionObjects object = new ObjectWithNestedCollectionObjects();
+        List<SimpleObject> simpleObjects = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            simpleObjects.add(new SimpleObject());
+        }
+        object.setSimpleObjects(simpleObjects);
+        AtomicInteger received = new AtomicInteger();
+        assertEquals(3, validationService.validate(object, validationError -> received.incrementAndGet() < 3));
+        assertEquals(3, received.get());
+        assertEquals(3, calls.get());
+        received.set(0);
+        calls.set(0);
+        assertEquals(3, validationService.validate(object, ValidationOptions.DEFAULT.withParallelThreshold(2),
+                validationError -> received.incrementAndGet() < 3));
+        assertEquals(3, calls.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelThresholdHasToBePositive() {
+        ValidationOptions.DEFAULT.withParallelThreshold(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxErrorsHasToBePositive() {
+        ValidationOptions.maxErrors(0);
+    }
+
+    protected Validator countingNotNullValidator(final AtomicInteger calls) {
+        return new Validator() {
+            @Override
+            public String getName() {
+                return notNullValidator.getName();
+            }
+
+            @Override
+            public ValidationError validate(Object object) {
+                calls.incrementAndGet();
+                return notNullValidator.validate(object);
+            }
+        };
+    }
+
     @Test
     public void objectWithType() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         validationService.addValidator(notNullValidator);
         validationService.addTypeDeterminer(ObjectWithType.class, new ObjectWithTypeTypeDeterminer());
         ObjectWithType object = new ObjectWithType();
@@ -209,7 +788,7 @@ public class ValidationServiceTest {
 
     @Test
     public void testValidatorErrorSetsValueOnValidationError() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         validationService.addValidator(emptyStringValidator);
         SimpleObjectWithNonEmptyValidation object = new SimpleObjectWithNonEmptyValidation();
         object.setField1(EMPTY_STRING);
@@ -224,7 +803,7 @@ public class ValidationServiceTest {
 
     @Test
     public void testWithValidatorOnDeepNestedField() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         validationService.addValidator(notNullValidator);
         ObjectWithDeepNesting object = new ObjectWithDeepNesting();
         object.setSecondClassList(Arrays.asList(new ObjectWithDeepNesting.SecondClass()));
@@ -240,7 +819,7 @@ public class ValidationServiceTest {
 
     @Test
     public void testWithValidatorOnDeepNestedFieldWithCircularReference() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         validationService.addValidator(notNullValidator);
         ObjectWithDeepNestingWithCircular object = new ObjectWithDeepNestingWithCircular();
         object.setSecondClassList(Arrays.asList(new ObjectWithDeepNestingWithCircular.SecondClass()));
@@ -260,7 +839,7 @@ public class ValidationServiceTest {
 
     @Test
     public void testWithValidatorOnFieldWithTypedValidator() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         validationService.addValidator(new SimpleObjectWithTypedValidator.StringNotNull());
         SimpleObjectWithTypedValidator object = new SimpleObjectWithTypedValidator();
         ValidationResponse validationResponse = validationService.validate(object);
@@ -272,7 +851,7 @@ public class ValidationServiceTest {
 
     @Test
     public void testWithValidatorOnFieldWithTypedValidatorTypeMisMatchOnValidatorGeneric() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         validationService.addValidator(new SimpleObjectWithTypedValidator.IntegerNotNull());
         SimpleObjectWithTypedValidator object = new SimpleObjectWithTypedValidator();
         ValidationResponse validationResponse = validationService.validate(object);
@@ -286,7 +865,7 @@ public class ValidationServiceTest {
     @Test
     public void testWithValidatorOnFieldWithTypedValidatorTypeWithMainObject() {
         String failingString = SimpleObjectWithTypedValidatorMainObject.StringNotNullMainObject.BOOM;
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         SimpleObjectWithTypedValidatorMainObject.StringNotNullMainObject validator = new SimpleObjectWithTypedValidatorMainObject.StringNotNullMainObject();
         validationService.addValidator(validator);
         SimpleObjectWithTypedValidatorMainObject object = new SimpleObjectWithTypedValidatorMainObject();
@@ -303,9 +882,24 @@ public class ValidationServiceTest {
     }
 
 
+    @Test
+    public void longValidatorWithMainObjectGetsTheMainObject() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        validationService.addValidator(new SimpleObjectWithTypedValidatorMainObject.LongNotAboveLimit());
+        SimpleObjectWithTypedValidatorMainObject object = new SimpleObjectWithTypedValidatorMainObject()
+                .setField3(10).setLimit(5);
+        ValidationResponse validationResponse = validationService.validate(object);
+        assertEquals(1, validationResponse.getValidationErrors().size());
+        assertEquals("field3 is above the limit",
+                validationResponse.findValidationErrorsForField("field3").get(0).getErrorMessage());
+        assertEquals(10L, validationResponse.findValidationErrorsForField("field3").get(0).getValue());
+        object.setLimit(10);
+        assertTrue(validationService.validate(object).isValid());
+    }
+
     @Test
     public void defaultValidation() {
-        ValidationService validationService = new ValidationService(TEST_CLASSES_PACKAGE);
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
         SimpleObjectDefaultValidators object = new SimpleObjectDefaultValidators();
         ValidationResponse validationResponse = validationService.validate(object);
         assertFalse(validationResponse.isValid());
@@ -321,10 +915,24 @@ public class ValidationServiceTest {
         assertTrue(validationResponse.isValid());
     }
 
+    @Test
+    public void defaultValidationOnPrimitiveLongField() {
+        ValidationService validationService = newValidationService(TEST_CLASSES_PACKAGE);
+        SimpleObjectDefaultValidators object = new SimpleObjectDefaultValidators();
+        object.setField3(33);
+        List<ValidationError> validationErrors = validationService.validate(object)
+                .findValidationErrorsForField("field3");
+        assertEquals(1, validationErrors.size());
+        assertEquals(33L, validationErrors.get(0).getValue());
+        assertEquals("value 33 is more than 32", validationErrors.get(0).getThrowable().getMessage());
+        object.setField3(32);
+        assertEquals(0, validationService.validate(object).findValidationErrorsForField("field3").size());
+    }
+
     @Test
     public void defaultValidatorsTest() {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss a z");
-        ValidationService validationService = new ValidationService(TestObjectWithAllValidators.class);
+        ValidationService validationService = newValidationService(TestObjectWithAllValidators.class);
         TestObjectWithAllValidators testObjectWithAllValidators = new TestObjectWithAllValidators();
         ValidationResponse validationResponse = validationService.validate(testObjectWithAllValidators);
         assertFalse(validationResponse.isValid());
@@ -390,6 +998,29 @@ public class ValidationServiceTest {
 
     }
 
+    @Test
+    public void errorMessageTemplateIsRenderedWithTheValidatorParameters() {
+        ValidationService validationService = newValidationService(TestObjectWithMessageTemplates.class);
+        TestObjectWithMessageTemplates object = new TestObjectWithMessageTemplates();
+        object.maxValue = 6L;
+        object.sizeValue = "too long";
+        ValidationResponse validationResponse = validationService.validate(object);
+        assertEquals("maxValue is 6 but the maximum is 5",
+                validationResponse.findValidationErrorsForField("maxValue").get(0).getErrorMessage());
+        assertEquals("size of sizeValue is 8, not between 1 and 4 {unknown}",
+                validationResponse.findValidationErrorsForField("sizeValue").get(0).getErrorMessage());
+    }
+
+    private static class TestObjectWithMessageTemplates {
+
+        @Max(value = 5L, errorMessage = "{field} is {value} but the maximum is {max}")
+        private Long maxValue;
+
+        @Size(min = 1, max = 4, errorMessage = "size of {field} is {length}, not between {min} and {max} {unknown}")
+        private String sizeValue;
+
+    }
+
     private static class TestObjectWithAllValidators {
 
         @After(format = "E, d MMM yyyy HH:mm:ss z", dateTime = "Mon, 1 Apr 2019 11:05:30 GMT", errorMessage = "afterDate isn't after specified date")
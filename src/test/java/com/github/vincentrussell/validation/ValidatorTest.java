@@ -29,6 +29,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.TimeZone;
@@ -38,6 +39,7 @@ import java.util.stream.Collectors;
 import static org.apache.commons.lang3.time.DateUtils.toCalendar;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class ValidatorTest {
@@ -175,6 +177,8 @@ public class ValidatorTest {
         assertValidationSuccess(() -> maxValidator.validate(BigInteger.valueOf(24L)));
         assertValidationSuccess(() -> maxValidator.validate(new Byte((byte) 24)));
         assertValidationSuccess(() -> maxValidator.validate(new Short((byte) 24)));
+        assertValidationErrorThrowableMessage(() -> maxValidator.validateLong(26L), "value 26 is more than 25");
+        assertValidationSuccess(() -> maxValidator.validateLong(25L));
     }
 
     @Test
@@ -194,6 +198,8 @@ public class ValidatorTest {
         assertValidationSuccess(() -> minValidator.validate(BigInteger.valueOf(26L)));
         assertValidationSuccess(() -> minValidator.validate(new Byte((byte) 26)));
         assertValidationSuccess(() -> minValidator.validate(new Short((byte) 26)));
+        assertValidationErrorThrowableMessage(() -> minValidator.validateLong(24L), "value 24 is less than 25");
+        assertValidationSuccess(() -> minValidator.validateLong(25L));
     }
 
     @Test
@@ -429,6 +435,24 @@ public class ValidatorTest {
     }
 
 
+    @Test
+    public void defaultValidatorsReturnViolationsWithoutAThrowable() throws Exception {
+        MaxValidator maxValidator = getValidator(MaxValidator.class, 32L);
+        ValidationError validationError = maxValidator.validateLong(33L);
+        Violation violation = validationError.getViolation();
+        assertEquals(com.github.vincentrussell.validation.annotation.Max.class.getName(), violation.getConstraintId());
+        assertEquals("value {value} is more than {max}", violation.getMessageTemplate());
+        assertEquals(33L, violation.getValue());
+        assertEquals(Collections.singletonMap("max", 32L), violation.getParameters());
+        assertEquals("value 33 is more than 32", violation.getMessage());
+        Throwable throwable = validationError.getThrowable();
+        assertTrue(throwable instanceof IllegalArgumentException);
+        assertEquals(0, throwable.getStackTrace().length);
+        assertSame(throwable, validationError.getThrowable());
+        assertEquals(com.github.vincentrussell.validation.annotation.NotNull.class.getName(),
+                new NotNullValidator().validate(null).getViolation().getConstraintId());
+    }
+
     private void assertValidationSuccess(Callable<ValidationError> validationErrorCallable) throws Exception {
         ValidationError validationError = validationErrorCallable.call();
         assertNull(validationError);
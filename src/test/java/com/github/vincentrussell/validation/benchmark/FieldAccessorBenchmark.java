@@ -0,0 +1,104 @@
+package com.github.vincentrussell.validation.benchmark;
+
+import com.github.vincentrussell.validation.util.FieldAccessor;
+import com.github.vincentrussell.validation.util.ReflectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a field with {@link ReflectionUtils#getValue(Field, Object)} against {@link FieldAccessor}, and
+ * against the handle of a {@link FieldAccessor} in a static final field like the generated plan executors use it.
+ * Compile with <code>mvn -Pbenchmark test-compile</code> and run the main method with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldAccessorBenchmark {
+
+    private static final MethodHandle STRING_GETTER = getAccessor("stringValue").getGetter();
+    private static final MethodHandle LONG_GETTER = getAccessor("longValue").getLongGetter();
+
+    private final Pojo pojo = new Pojo();
+    private Field stringField;
+    private Field longField;
+    private FieldAccessor stringFieldAccessor;
+    private FieldAccessor longFieldAccessor;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        stringField = Pojo.class.getDeclaredField("stringValue");
+        longField = Pojo.class.getDeclaredField("longValue");
+        stringFieldAccessor = FieldAccessor.of(stringField);
+        longFieldAccessor = FieldAccessor.of(longField);
+    }
+
+    private static FieldAccessor getAccessor(final String name) {
+        try {
+            return FieldAccessor.of(Pojo.class.getDeclaredField(name));
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public Object reflectionUtilsObject() throws IllegalAccessException {
+        return ReflectionUtils.getValue(stringField, pojo);
+    }
+
+    @Benchmark
+    public Object fieldAccessorObject() {
+        return stringFieldAccessor.get(pojo);
+    }
+
+    @Benchmark
+    public Object reflectionUtilsLong() throws IllegalAccessException {
+        return ReflectionUtils.getValue(longField, pojo);
+    }
+
+    @Benchmark
+    public Object fieldAccessorBoxedLong() {
+        return longFieldAccessor.get(pojo);
+    }
+
+    @Benchmark
+    public long fieldAccessorLong() {
+        return longFieldAccessor.getLong(pojo);
+    }
+
+    @Benchmark
+    public Object staticFinalHandleObject() throws Throwable {
+        return (Object) STRING_GETTER.invokeExact((Object) pojo);
+    }
+
+    @Benchmark
+    public long staticFinalHandleLong() throws Throwable {
+        return (long) LONG_GETTER.invokeExact((Object) pojo);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FieldAccessorBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static class Pojo {
+        private String stringValue = "value";
+        private long longValue = 1234567L;
+    }
+}
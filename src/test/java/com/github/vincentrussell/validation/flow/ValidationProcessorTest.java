@@ -0,0 +1,218 @@
+package com.github.vincentrussell.validation.flow;
+
+import com.github.vincentrussell.validation.ValidationError;
+import com.github.vincentrussell.validation.ValidationService;
+import com.github.vincentrussell.validation.Validator;
+import com.github.vincentrussell.validation.testClasses.simple.SimpleObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ValidationProcessorTest {
+
+    private ValidationService validationService;
+    private ExecutorService executor;
+
+    @Before
+    public void createValidationService() {
+        validationService = new ValidationService("com.github.vincentrussell.validation.testClasses");
+        validationService.addValidator(new Validator() {
+            @Override
+            public String getName() {
+                return "notNull";
+            }
+
+            @Override
+            public ValidationError validate(Object object) {
+                try {
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(2));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return object == null ? new ValidationError(new NullPointerException("the field is null")) : null;
+            }
+        });
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void itemsAreDeliveredInOrder() throws InterruptedException {
+        List<SimpleObject> items = simpleObjects(200);
+        ValidationProcessor<SimpleObject> processor = new ValidationProcessor<>(validationService, executor, 8);
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        new ListPublisher<>(items).subscribe(processor);
+        assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+        assertNull(subscriber.error);
+        assertEquals(items, subscriber.items());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i % 4 != 0, subscriber.received.get(i).isValid());
+        }
+    }
+
+    @Test
+    public void demandOfTheSubscriberIsHonored() throws InterruptedException {
+        List<SimpleObject> items = simpleObjects(20);
+        ValidationProcessor<SimpleObject> processor = new ValidationProcessor<>(validationService, executor, 5);
+        TestSubscriber subscriber = new TestSubscriber(3);
+        processor.subscribe(subscriber);
+        ListPublisher<SimpleObject> publisher = new ListPublisher<>(items);
+        publisher.subscribe(processor);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (subscriber.received.size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        assertEquals(3, subscriber.received.size());
+        assertEquals(8, publisher.requested.get());
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+        assertEquals(items, subscriber.items());
+    }
+
+    @Test
+    public void validAndInvalidItemsAreRouted() throws InterruptedException {
+        List<SimpleObject> items = simpleObjects(100);
+        ValidationProcessor<SimpleObject> processor = new ValidationProcessor<>(validationService, executor, 16);
+        TestSubscriber validSubscriber = new TestSubscriber(Long.MAX_VALUE);
+        TestSubscriber invalidSubscriber = new TestSubscriber(Long.MAX_VALUE);
+        processor.getValid().subscribe(validSubscriber);
+        processor.getInvalid().subscribe(invalidSubscriber);
+        new ListPublisher<>(items).subscribe(processor);
+        assertTrue(validSubscriber.completed.await(10, TimeUnit.SECONDS));
+        assertTrue(invalidSubscriber.completed.await(10, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, items.size()).filter(i -> i % 4 != 0).mapToObj(items::get)
+                .collect(Collectors.toList()), validSubscriber.items());
+        assertEquals(IntStream.range(0, items.size()).filter(i -> i % 4 == 0).mapToObj(items::get)
+                .collect(Collectors.toList()), invalidSubscriber.items());
+    }
+
+    @Test
+    public void cancellingTheSubscriberCancelsTheUpstream() throws InterruptedException {
+        ValidationProcessor<SimpleObject> processor = new ValidationProcessor<>(validationService, executor, 4);
+        TestSubscriber subscriber = new TestSubscriber(1);
+        processor.subscribe(subscriber);
+        ListPublisher<SimpleObject> publisher = new ListPublisher<>(simpleObjects(20));
+        publisher.subscribe(processor);
+        subscriber.subscription.cancel();
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void windowHasToBePositive() {
+        new ValidationProcessor<SimpleObject>(validationService, executor, 0);
+    }
+
+    private List<SimpleObject> simpleObjects(final int size) {
+        List<SimpleObject> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            SimpleObject simpleObject = new SimpleObject();
+            simpleObject.setField1(i % 4 == 0 ? null : "value" + i);
+            items.add(simpleObject);
+        }
+        return items;
+    }
+
+    private static class TestSubscriber implements Subscriber<Validated<SimpleObject>> {
+
+        private final long initialRequest;
+        private final List<Validated<SimpleObject>> received = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Subscription subscription;
+        private volatile Throwable error;
+
+        TestSubscriber(final long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(Validated<SimpleObject> item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        List<SimpleObject> items() {
+            return received.stream().map(Validated::getItem).collect(Collectors.toList());
+        }
+    }
+
+    private static class ListPublisher<T> implements Publisher<T>, Subscription {
+
+        private final List<T> items;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private Subscriber<? super T> subscriber;
+        private int index;
+
+        ListPublisher(final List<T> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            requested.addAndGet(n);
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!cancelled && index < items.size() && index < requested.get()) {
+                    subscriber.onNext(items.get(index++));
+                }
+                if (!cancelled && index == items.size()) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
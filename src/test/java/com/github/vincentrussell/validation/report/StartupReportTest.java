@@ -0,0 +1,46 @@
+package com.github.vincentrussell.validation.report;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StartupReportTest {
+
+    @Test
+    public void phasesCanBeReadWhileTheyAreRecorded() throws Exception {
+        StartupReport startupReport = new StartupReport();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        startupReport.measure("phase" + i, () -> { });
+                        startupReport.incrementValidatorInstances();
+                    }
+                }));
+            }
+            while (futures.stream().anyMatch(future -> !future.isDone())) {
+                startupReport.toString();
+                startupReport.getPhases().forEach(StartupReport.Phase::getCount);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1000, startupReport.getPhases().size());
+        assertTrue(startupReport.getPhases().stream().allMatch(phase -> phase.getCount() == 4));
+        assertEquals(4000, startupReport.getValidatorInstances());
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.vincentrussell.validation.scanner;
+
+import com.github.vincentrussell.validation.annotation.NotNull;
+import com.github.vincentrussell.validation.testClasses.nestedObjects.ObjectWithNestedObjects;
+import com.github.vincentrussell.validation.testClasses.simple.SimpleObject;
+import com.github.vincentrussell.validation.testClasses.typedValidator.SimpleObjectWithTypedValidator;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ClassFileScannerTest {
+
+    private static final String TEST_CLASSES_PACKAGE = "com.github.vincentrussell.validation.testClasses";
+
+    private final Set<String> loadedClasses = new HashSet<>();
+    private final ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            loadedClasses.add(name);
+            return super.loadClass(name, resolve);
+        }
+    };
+
+    @Test
+    public void onlyClassesWithConstraintsAreLoaded() {
+        Set<Class> classes = new ClassFileScanner(classLoader).getClasses(getTestClassesUrls(),
+                Collections.singletonList(TEST_CLASSES_PACKAGE), Collections.singletonList(NotNull.class), Collections.emptyList());
+        assertTrue(classes.contains(SimpleObject.class));
+        assertTrue(classes.contains(ObjectWithNestedObjects.class));
+        assertTrue(classes.contains(SimpleObjectWithTypedValidator.class));
+        assertFalse(classes.contains(SimpleObjectWithTypedValidator.IntegerNotNull.class));
+        assertTrue(loadedClasses.contains(SimpleObject.class.getName()));
+        assertFalse(loadedClasses.contains(SimpleObjectWithTypedValidator.IntegerNotNull.class.getName()));
+    }
+
+    @Test
+    public void classMeansPackageOfClass() {
+        Set<Class> classes = new ClassFileScanner(classLoader).getClasses(getTestClassesUrls(),
+                Collections.singletonList(SimpleObject.class), Collections.emptyList(), Collections.emptyList());
+        assertEquals(Collections.singleton(SimpleObject.class), classes);
+    }
+
+    @Test
+    public void classesThatReachKnownTypesAreLoaded() {
+        Set<Class> classes = new ClassFileScanner(classLoader).getClasses(getTestClassesUrls(),
+                Collections.singletonList(ObjectWithNestedObjects.class), Collections.emptyList(),
+                Collections.singletonList(SimpleObject.class));
+        assertEquals(Collections.singleton(ObjectWithNestedObjects.class), classes);
+    }
+
+    @Test
+    public void nothingToScan() {
+        assertNull(new ClassFileScanner(classLoader).getClasses(getTestClassesUrls(), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList()));
+    }
+
+    @Test
+    public void ignoredWithSystemProperty() {
+        System.setProperty(ClassFileScanner.IGNORE_CLASS_FILES_PROPERTY, "true");
+        try {
+            assertNull(new ClassFileScanner(classLoader).getClasses(getTestClassesUrls(),
+                    Collections.singletonList(TEST_CLASSES_PACKAGE), Collections.emptyList(), Collections.emptyList()));
+        } finally {
+            System.clearProperty(ClassFileScanner.IGNORE_CLASS_FILES_PROPERTY);
+        }
+    }
+
+    @Test
+    public void referencedTypesAreReadFromConstantPool() throws IOException, URISyntaxException {
+        ClassFileInfo classFileInfo = ClassFileInfo.read(ByteBuffer.wrap(Files.readAllBytes(Paths.get(getClass()
+                .getResource("/" + ObjectWithNestedObjects.class.getName().replace('.', '/') + ".class").toURI()))));
+        assertEquals(ObjectWithNestedObjects.class.getName().replace('.', '/'), classFileInfo.getClassName());
+        assertTrue(classFileInfo.getReferencedTypes().contains(SimpleObject.class.getName().replace('.', '/')));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void notAClassFile() {
+        ClassFileInfo.read(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5}));
+    }
+
+    private Set<URL> getTestClassesUrls() {
+        return Collections.singleton(SimpleObject.class.getProtectionDomain().getCodeSource().getLocation());
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.vincentrussell.validation.scanner;
+
+import com.github.vincentrussell.validation.annotation.NotNull;
+import com.github.vincentrussell.validation.annotation.Validation;
+import com.github.vincentrussell.validation.processor.ValidationIndexProcessor;
+import com.github.vincentrussell.validation.testClasses.deep.ObjectWithDeepNesting;
+import com.github.vincentrussell.validation.testClasses.simple.SimpleObject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reflections.util.ConfigurationBuilder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
+
+public class ValidationIndexTest {
+
+    private static final String TEST_CLASSES_PACKAGE = "com.github.vincentrussell.validation.testClasses";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ValidationIndex validationIndex = ValidationIndex.load(getClass().getClassLoader());
+
+    private Set<Class> getClasses(final ValidationIndex index, final List<?> params) {
+        return index.getClasses(getUrls(params), params);
+    }
+
+    private Collection<URL> getUrls(final List<?> params) {
+        List<Object> urlParams = new ArrayList<>(params);
+        urlParams.add(getClass().getClassLoader());
+        return ConfigurationBuilder.build(urlParams.toArray(new Object[0])).getUrls();
+    }
+
+    @Test
+    public void packageIsInIndex() {
+        Set<Class> classes = getClasses(validationIndex, Collections.singletonList(TEST_CLASSES_PACKAGE));
+        assertTrue(classes.contains(SimpleObject.class));
+        assertTrue(classes.contains(ObjectWithDeepNesting.class));
+        assertTrue(classes.contains(ObjectWithDeepNesting.SecondClass.class));
+        assertFalse(classes.contains(ValidationIndexTest.class));
+    }
+
+    @Test
+    public void classMeansPackageOfClass() {
+        Set<Class> classes = getClasses(validationIndex, Collections.singletonList(SimpleObject.class));
+        assertTrue(classes.contains(SimpleObject.class));
+        assertFalse(classes.contains(ObjectWithDeepNesting.class));
+    }
+
+    @Test
+    public void validatorAnnotationsAreSkipped() {
+        Set<Class> classes = getClasses(validationIndex, Arrays.asList(SimpleObject.class, NotNull.class));
+        assertTrue(classes.contains(SimpleObject.class));
+    }
+
+    @Test
+    public void packageNotInIndex() {
+        assertTrue(getClasses(validationIndex, Collections.singletonList("org.example")).isEmpty());
+        assertTrue(getClasses(validationIndex, Collections.singletonList(String.class)).isEmpty());
+        assertNull(getClasses(validationIndex, Collections.emptyList()));
+    }
+
+    @Test
+    public void unsupportedParameter() {
+        assertNull(getClasses(validationIndex, Arrays.asList(TEST_CLASSES_PACKAGE, getClass().getClassLoader())));
+    }
+
+    @Test
+    public void onlyTheJarsAndDirectoriesWithAnIndexAreIndexed() throws IOException {
+        URL testClasses = SimpleObject.class.getProtectionDomain().getCodeSource().getLocation();
+        URL withoutIndex = temporaryFolder.newFolder().toURI().toURL();
+        assertTrue(validationIndex.isIndexed(testClasses));
+        assertFalse(validationIndex.isIndexed(withoutIndex));
+        Set<Class> classes = validationIndex.getClasses(Arrays.asList(testClasses, withoutIndex),
+                Collections.singletonList(TEST_CLASSES_PACKAGE));
+        assertTrue(classes.contains(SimpleObject.class));
+        assertTrue(validationIndex.getClasses(Collections.singletonList(withoutIndex),
+                Collections.singletonList(TEST_CLASSES_PACKAGE)).isEmpty());
+    }
+
+    @Test
+    public void noIndexOnClasspath() {
+        ValidationIndex emptyIndex = ValidationIndex.load(new URLClassLoader(new URL[0], null));
+        assertTrue(getClasses(emptyIndex, Collections.singletonList(TEST_CLASSES_PACKAGE)).isEmpty());
+        assertFalse(emptyIndex.isIndexed(SimpleObject.class.getProtectionDomain().getCodeSource().getLocation()));
+    }
+
+    @Test
+    public void ignoreIndex() {
+        System.setProperty(ValidationIndex.IGNORE_INDEX_PROPERTY, "true");
+        try {
+            ValidationIndex ignoredIndex = ValidationIndex.load(getClass().getClassLoader());
+            assertTrue(getClasses(ignoredIndex, Collections.singletonList(TEST_CLASSES_PACKAGE)).isEmpty());
+            assertTrue(getUrls(Collections.singletonList(TEST_CLASSES_PACKAGE)).stream()
+                    .noneMatch(ignoredIndex::isIndexed));
+        } finally {
+            System.clearProperty(ValidationIndex.IGNORE_INDEX_PROPERTY);
+        }
+    }
+
+    @Test
+    public void classesThatReachAValidatedClassOfAnotherIndexedDirectoryAreIndexed() throws IOException {
+        File bar = compile(temporaryFolder.newFolder(), "other.Bar",
+                "package other; public class Bar { @" + Validation.class.getName()
+                        + "(validators = \"notNull\") private String name; }");
+        File foo = compile(temporaryFolder.newFolder(), "model.Foo",
+                "package model; public class Foo { private other.Bar bar; }", bar);
+        File baz = compile(temporaryFolder.newFolder(), "model.Baz",
+                "package model; public class Baz { private String name; }");
+        URL[] urls = {foo.toURI().toURL(), bar.toURI().toURL(), baz.toURI().toURL()};
+        try (URLClassLoader classLoader = new URLClassLoader(urls, getClass().getClassLoader())) {
+            ValidationIndex index = ValidationIndex.load(classLoader);
+            assertTrue(Arrays.stream(urls).allMatch(index::isIndexed));
+            Set<Class> classes = index.getClasses(Arrays.asList(urls), Arrays.asList("model", "other"));
+            assertEquals(new HashSet<>(Arrays.asList("model.Foo", "other.Bar")),
+                    classes.stream().map(Class::getName).collect(Collectors.toSet()));
+        }
+    }
+
+    private File compile(final File output, final String className, final String source,
+                         final File... classpath) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+        File sourceFile = new File(temporaryFolder.newFolder(), className.replace('.', '/') + ".java");
+        assertTrue(sourceFile.getParentFile().mkdirs());
+        Files.write(sourceFile.toPath(), source.getBytes(StandardCharsets.UTF_8));
+        StringBuilder classpathBuilder = new StringBuilder(
+                new File(Validation.class.getProtectionDomain().getCodeSource().getLocation().getFile()).getPath());
+        for (File file : classpath) {
+            classpathBuilder.append(File.pathSeparator).append(file.getPath());
+        }
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null,
+                StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects(sourceFile);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    Arrays.asList("-d", output.getPath(), "-classpath", classpathBuilder.toString(),
+                            "-A" + ValidationIndexProcessor.INDEX_OPTION + "=true"), null, compilationUnits);
+            task.setProcessors(Collections.singletonList(new ValidationIndexProcessor()));
+            assertTrue(task.call());
+        }
+        return output;
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.vincentrussell.validation.snapshot;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class MetadataSnapshotTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void writeAndRead() throws IOException {
+        MetadataSnapshot metadataSnapshot = new MetadataSnapshot(temporaryFolder.getRoot().toPath()
+                .resolve("dir").resolve("snapshot.bin"));
+        SnapshotOutput snapshotOutput = metadataSnapshot.createOutput("fingerprint");
+        snapshotOutput.writeInt(42);
+        snapshotOutput.writeString(null);
+        snapshotOutput.writeStrings(Arrays.asList("a", "ü"));
+        List<Object> values = Arrays.asList(null, "value", true, 1, 2L, 3.5d);
+        for (Object value : values) {
+            snapshotOutput.writeValue(value);
+        }
+        snapshotOutput.writeValue(new String[] {"x", "y"});
+        metadataSnapshot.write(snapshotOutput);
+
+        SnapshotInput snapshotInput = metadataSnapshot.read("fingerprint");
+        assertEquals(42, snapshotInput.readInt());
+        assertNull(snapshotInput.readString());
+        assertEquals(Arrays.asList("a", "ü"), snapshotInput.readStrings());
+        for (Object value : values) {
+            assertEquals(value, snapshotInput.readValue());
+        }
+        assertArrayEquals(new String[] {"x", "y"}, (String[]) snapshotInput.readValue());
+    }
+
+    @Test
+    public void fingerprintMismatch() throws IOException {
+        MetadataSnapshot metadataSnapshot = new MetadataSnapshot(temporaryFolder.getRoot().toPath()
+                .resolve("snapshot.bin"));
+        metadataSnapshot.write(metadataSnapshot.createOutput("fingerprint"));
+        assertNull(metadataSnapshot.read("other"));
+    }
+
+    @Test
+    public void missingOrDamagedSnapshot() throws IOException {
+        Path path = temporaryFolder.getRoot().toPath().resolve("snapshot.bin");
+        MetadataSnapshot metadataSnapshot = new MetadataSnapshot(path);
+        assertNull(metadataSnapshot.read("fingerprint"));
+        Files.write(path, new byte[] {1, 2});
+        assertNull(metadataSnapshot.read("fingerprint"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unsupportedValue() throws IOException {
+        new SnapshotOutput().writeValue(new Object());
+    }
+
+    @Test
+    public void fingerprintChangesWithClassFiles() throws IOException {
+        File directory = temporaryFolder.newFolder("classes");
+        File classFile = new File(directory, "A.class");
+        Files.write(classFile.toPath(), new byte[] {1});
+        List<URL> urls = Collections.singletonList(directory.toURI().toURL());
+        List<Object> params = Arrays.asList("com.example", String.class);
+
+        String fingerprint = MetadataSnapshot.fingerprint(urls, params);
+        assertEquals(fingerprint, MetadataSnapshot.fingerprint(urls, Arrays.asList(String.class, "com.example")));
+        assertNotEquals(fingerprint, MetadataSnapshot.fingerprint(urls, Collections.singletonList("com.example")));
+        Files.write(classFile.toPath(), new byte[] {1, 2});
+        assertNotEquals(fingerprint, MetadataSnapshot.fingerprint(urls, params));
+    }
+}
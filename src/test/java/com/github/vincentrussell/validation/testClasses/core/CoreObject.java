@@ -0,0 +1,22 @@
+package com.github.vincentrussell.validation.testClasses.core;
+
+import com.github.vincentrussell.validation.annotation.Validation;
+import com.github.vincentrussell.validation.testClasses.plugin.PluginObject;
+
+public class CoreObject {
+
+    @Validation(validators = "notNull")
+    private String name;
+
+    private PluginObject plugin;
+
+    public CoreObject setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public CoreObject setPlugin(PluginObject plugin) {
+        this.plugin = plugin;
+        return this;
+    }
+}
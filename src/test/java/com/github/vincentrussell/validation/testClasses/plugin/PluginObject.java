@@ -0,0 +1,14 @@
+package com.github.vincentrussell.validation.testClasses.plugin;
+
+import com.github.vincentrussell.validation.annotation.Validation;
+
+public class PluginObject {
+
+    @Validation(validators = "notNull")
+    private String setting;
+
+    public PluginObject setSetting(String setting) {
+        this.setting = setting;
+        return this;
+    }
+}
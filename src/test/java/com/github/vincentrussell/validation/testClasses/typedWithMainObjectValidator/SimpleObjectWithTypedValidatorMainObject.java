@@ -1,6 +1,7 @@
 package com.github.vincentrussell.validation.testClasses.typedWithMainObjectValidator;
 
 
+import com.github.vincentrussell.validation.LongValidator;
 import com.github.vincentrussell.validation.ValidationError;
 import com.github.vincentrussell.validation.ValidatorWithMainObject;
 import com.github.vincentrussell.validation.annotation.Validation;
@@ -13,6 +14,11 @@ public class SimpleObjectWithTypedValidatorMainObject {
     @Validation(validators = "integerNotNull", errorMessage = "you must provide a value for integer field2")
     private Integer field2;
 
+    @Validation(validators = "longNotAboveLimit", errorMessage = "field3 is above the limit")
+    private long field3;
+
+    private long limit = Long.MAX_VALUE;
+
     private String unwatchedString1;
     private String unwatchedString2;
 
@@ -30,6 +36,42 @@ public class SimpleObjectWithTypedValidatorMainObject {
         return this;
     }
 
+    public long getLimit() {
+        return limit;
+    }
+
+    public SimpleObjectWithTypedValidatorMainObject setField3(long field3) {
+        this.field3 = field3;
+        return this;
+    }
+
+    public SimpleObjectWithTypedValidatorMainObject setLimit(long limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    public static class LongNotAboveLimit implements LongValidator,
+            ValidatorWithMainObject<Long, SimpleObjectWithTypedValidatorMainObject> {
+
+        @Override
+        public String getName() {
+            return "longNotAboveLimit";
+        }
+
+        @Override
+        public ValidationError validate(Long object, SimpleObjectWithTypedValidatorMainObject mainObject) {
+            if (object > mainObject.getLimit()) {
+                return new ValidationError(new IllegalArgumentException("value is above the limit"));
+            }
+            return null;
+        }
+
+        @Override
+        public ValidationError validateLong(long value) {
+            throw new UnsupportedOperationException("the limit is on the main object");
+        }
+    }
+
     public static class StringNotNullMainObject implements ValidatorWithMainObject<String, SimpleObjectWithTypedValidatorMainObject> {
 
 
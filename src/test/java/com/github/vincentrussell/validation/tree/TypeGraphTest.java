@@ -0,0 +1,53 @@
+package com.github.vincentrussell.validation.tree;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TypeGraphTest {
+
+    @Test
+    public void edgesAreOnlyAddedOnce() {
+        TypeGraph<String> typeGraph = new TypeGraph<>("root");
+        assertTrue(typeGraph.addEdge("root", "a"));
+        assertFalse(typeGraph.addEdge("root", "a"));
+        assertTrue(typeGraph.addEdge("b", "a"));
+        assertEquals(3, typeGraph.getNodeCount());
+        assertEquals(2, typeGraph.getEdgeCount());
+        assertEquals(new HashSet<>(Arrays.asList("root", "b")), typeGraph.getPredecessors("a"));
+        assertEquals(Collections.singleton("a"), typeGraph.getSuccessors("root"));
+    }
+
+    @Test
+    public void nodesThatReachTargetsWithCycle() {
+        TypeGraph<String> typeGraph = new TypeGraph<>("root");
+        typeGraph.addEdge("root", "a");
+        typeGraph.addEdge("root", "c");
+        typeGraph.addEdge("a", "b");
+        typeGraph.addEdge("b", "a");
+        typeGraph.addEdge("b", "target");
+        typeGraph.addEdge("c", "d");
+        assertEquals(new HashSet<>(Arrays.asList("target", "b", "a", "root")),
+                typeGraph.getNodesThatReach(Arrays.asList("target", "missing")));
+    }
+
+    @Test
+    public void depthIsShortestPathFromRoot() {
+        TypeGraph<String> typeGraph = new TypeGraph<>("root");
+        typeGraph.addEdge("root", "a");
+        typeGraph.addEdge("a", "b");
+        typeGraph.addEdge("b", "c");
+        typeGraph.addNode("unreachable");
+        assertEquals(0, typeGraph.getDepth("root"));
+        assertEquals(3, typeGraph.getDepth("c"));
+        assertEquals(-1, typeGraph.getDepth("unreachable"));
+        typeGraph.addEdge("root", "c");
+        assertEquals(1, typeGraph.getDepth("c"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.vincentrussell.validation.util;
+
+import com.github.vincentrussell.validation.testClasses.simple.SimpleObject;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ClassScopedMapTest {
+
+    @Test
+    public void putGetAndRemove() {
+        Map<Class, String> map = ClassScopedMap.forClasses();
+        assertNull(map.put(String.class, "string"));
+        assertEquals("string", map.put(String.class, "another string"));
+        map.put(SimpleObject.class, "simpleObject");
+        assertEquals("another string", map.get(String.class));
+        assertTrue(map.containsKey(SimpleObject.class));
+        assertFalse(map.containsKey(Integer.class));
+        assertNull(map.get(Integer.class));
+        assertEquals(2, map.size());
+        assertEquals(new HashSet<>(Arrays.asList(String.class, SimpleObject.class)), map.keySet());
+
+        assertEquals("simpleObject", map.remove(SimpleObject.class));
+        assertEquals(1, map.size());
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(String.class));
+    }
+
+    @Test
+    public void fieldsAreStoredWithTheirClass() throws NoSuchFieldException {
+        Field field1 = SimpleObject.class.getDeclaredField("field1");
+        Field unwatchedString1 = SimpleObject.class.getDeclaredField("unwatchedString1");
+        Map<Field, String> map = ClassScopedMap.forFields();
+        map.put(field1, "field1");
+        map.put(unwatchedString1, "unwatchedString1");
+        assertEquals("field1", map.get(SimpleObject.class.getDeclaredField("field1")));
+        assertEquals(2, map.size());
+
+        for (Iterator<Field> iterator = map.keySet().iterator(); iterator.hasNext();) {
+            if (iterator.next().equals(field1)) {
+                iterator.remove();
+            }
+        }
+        assertFalse(map.containsKey(field1));
+        assertEquals("unwatchedString1", map.get(unwatchedString1));
+    }
+
+    @Test
+    public void mapsAreIndependent() {
+        Map<Class, String> map1 = ClassScopedMap.forClasses();
+        Map<Class, String> map2 = ClassScopedMap.forClasses();
+        map1.put(String.class, "string");
+        assertNull(map2.get(String.class));
+        assertEquals(map1, new HashMap<>(map1));
+    }
+}
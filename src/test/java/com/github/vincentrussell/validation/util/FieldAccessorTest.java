@@ -0,0 +1,58 @@
+package com.github.vincentrussell.validation.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FieldAccessorTest {
+
+    @Test
+    public void privateObjectField() throws NoSuchFieldException {
+        FieldAccessor fieldAccessor = FieldAccessor.of(Pojo.class.getDeclaredField("stringValue"));
+        assertFalse(fieldAccessor.isLongReadable());
+        assertEquals("value", fieldAccessor.get(new Pojo()));
+        assertNull(fieldAccessor.get(new Pojo().setStringValue(null)));
+    }
+
+    @Test
+    public void integralPrimitiveFields() throws NoSuchFieldException {
+        FieldAccessor longAccessor = FieldAccessor.of(Pojo.class.getDeclaredField("longValue"));
+        FieldAccessor intAccessor = FieldAccessor.of(Pojo.class.getDeclaredField("intValue"));
+        assertTrue(longAccessor.isLongReadable());
+        assertTrue(intAccessor.isLongReadable());
+        assertEquals(Long.MAX_VALUE, longAccessor.getLong(new Pojo()));
+        assertEquals(Long.MAX_VALUE, longAccessor.get(new Pojo()));
+        assertEquals(-5L, intAccessor.getLong(new Pojo()));
+        assertEquals(-5, intAccessor.get(new Pojo()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void doubleFieldIsNotLongReadable() throws NoSuchFieldException {
+        FieldAccessor fieldAccessor = FieldAccessor.of(Pojo.class.getDeclaredField("doubleValue"));
+        assertFalse(fieldAccessor.isLongReadable());
+        assertEquals(1.5d, fieldAccessor.get(new Pojo()));
+        fieldAccessor.getLong(new Pojo());
+    }
+
+    @Test
+    public void staticField() throws NoSuchFieldException {
+        FieldAccessor fieldAccessor = FieldAccessor.of(Pojo.class.getDeclaredField("STATIC_VALUE"));
+        assertEquals("static", fieldAccessor.get(new Pojo()));
+    }
+
+    private static class Pojo {
+        private static final String STATIC_VALUE = "static";
+        private String stringValue = "value";
+        private long longValue = Long.MAX_VALUE;
+        private int intValue = -5;
+        private double doubleValue = 1.5d;
+
+        public Pojo setStringValue(String stringValue) {
+            this.stringValue = stringValue;
+            return this;
+        }
+    }
+}